@@ -1,5 +1,9 @@
 package com.eazybytes.accounts;
 
+import com.eazybytes.accounts.config.CustomerCacheProperties;
+import com.eazybytes.accounts.config.CustomerDetailsProperties;
+import com.eazybytes.accounts.config.LoadBalancingProperties;
+import com.eazybytes.accounts.config.OutboxProperties;
 import com.eazybytes.accounts.dto.AccountContactInfoDto;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
@@ -12,11 +16,13 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableJpaAuditing(auditorAwareRef = "auditAwareImpl")
 @EnableFeignClients
+@EnableScheduling
 @OpenAPIDefinition(
 		info = @Info(
 				title = "Accounts microservice REST API Documentation",
@@ -36,7 +42,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 					url = "localhost:8080/swagger-ui/index.html" // Update with actual URL if needed
 		)
 )
-@EnableConfigurationProperties(value = {AccountContactInfoDto.class})
+@EnableConfigurationProperties(value = {AccountContactInfoDto.class, CustomerDetailsProperties.class,
+		CustomerCacheProperties.class, OutboxProperties.class, LoadBalancingProperties.class})
 public class AccountsApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,48 @@
+package com.eazybytes.accounts.cache;
+
+import com.eazybytes.accounts.config.CacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerCacheInvalidator.class);
+
+    private final CacheManager cacheManager;
+
+    private final StreamBridge streamBridge;
+
+    public CustomerCacheInvalidator(CacheManager cacheManager, StreamBridge streamBridge) {
+        this.cacheManager = cacheManager;
+        this.streamBridge = streamBridge;
+    }
+
+    /**
+     * Evicts the customer from both cache tiers and tells the other accounts
+     * instances to drop their in-process copy.
+     * @param mobileNumber - Mobile Number of the Customer
+     */
+    public void evict(String mobileNumber) {
+        Cache cache = cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE);
+        if (cache != null) {
+            cache.evict(mobileNumber);
+        }
+        var result = streamBridge.send("customerCacheEvict-out-0", mobileNumber);
+        log.debug("Published cache eviction for mobile number {} : {}", mobileNumber, result);
+    }
+
+    /**
+     * Handles an eviction broadcast by an accounts instance.
+     * @param mobileNumber - Mobile Number of the Customer
+     */
+    public void evictLocal(String mobileNumber) {
+        if (cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE) instanceof TwoLevelCache cache) {
+            cache.evictLocal(mobileNumber);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.eazybytes.accounts.cache;
+
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Spring {@link Cache} that reads through a bounded in-process Caffeine cache and,
+ * when configured, a shared cache behind it. Writes and evictions go to both tiers.
+ * <p>
+ * Concurrent misses for a key share one load. The load does not run inside Caffeine's
+ * compute, which holds a monitor for its duration and would pin a virtual thread to
+ * its carrier while it waits on Redis or the database.
+ * <p>
+ * An eviction during a load invalidates that load: its value is still returned to the
+ * callers already waiting on it, but it is not stored, and later callers start a new
+ * load. The load checks again after storing and evicts what it stored if an eviction
+ * came in between, so a value read before an eviction never outlives it in the cache.
+ * <p>
+ * Loads are recorded in the {@link StatsCounter} the local tier was built with, so its
+ * stats, and the cache metrics read from them, include load counts and load time as
+ * they did when Caffeine ran the load.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final CaffeineCache local;
+
+    private final Cache shared;
+
+    private final StatsCounter stats;
+
+    private final ConcurrentMap<Object, Load> loading = new ConcurrentHashMap<>();
+
+    public TwoLevelCache(CaffeineCache local, Cache shared) {
+        this(local, shared, StatsCounter.disabledStatsCounter());
+    }
+
+    /**
+     * @param stats the counter passed to {@code Caffeine.recordStats} for {@code local}
+     */
+    public TwoLevelCache(CaffeineCache local, Cache shared, StatsCounter stats) {
+        super(true);
+        this.local = local;
+        this.shared = shared;
+        this.stats = stats;
+    }
+
+    public CaffeineCache getLocal() {
+        return local;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        ValueWrapper localValue = local.get(key);
+        if (localValue != null) {
+            return toStoreValue(localValue.get());
+        }
+        if (shared == null) {
+            return null;
+        }
+        ValueWrapper sharedValue = shared.get(key);
+        if (sharedValue == null) {
+            return null;
+        }
+        local.put(key, sharedValue.get());
+        return toStoreValue(sharedValue.get());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper localValue = local.get(key);
+        if (localValue != null) {
+            return (T) localValue.get();
+        }
+        Load load = new Load();
+        Load inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            try {
+                return (T) inFlight.join();
+            } catch (CompletionException ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+            }
+        }
+        try {
+            T value = load(key, valueLoader, load);
+            load.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            load.completeExceptionally(ex);
+            throw ex instanceof ValueRetrievalException retrievalException ? retrievalException
+                    : new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(Object key, Callable<T> valueLoader, Load load) throws Exception {
+        // a load that finished between the first lookup and claiming the key, read
+        // without counting the miss a second time
+        Object localValue = local.getNativeCache().asMap().get(key);
+        if (localValue != null) {
+            return (T) fromStoreValue(localValue);
+        }
+        long start = System.nanoTime();
+        T value;
+        try {
+            value = loadTiers(key, valueLoader, load);
+        } catch (Throwable ex) {
+            stats.recordLoadFailure(System.nanoTime() - start);
+            throw ex;
+        }
+        stats.recordLoadSuccess(System.nanoTime() - start);
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T loadTiers(Object key, Callable<T> valueLoader, Load load) throws Exception {
+        if (shared != null) {
+            ValueWrapper sharedValue = shared.get(key);
+            if (sharedValue != null) {
+                if (!load.invalidated) {
+                    local.put(key, sharedValue.get());
+                    if (load.invalidated) {
+                        local.evict(key);
+                    }
+                }
+                return (T) sharedValue.get();
+            }
+        }
+        T value = valueLoader.call();
+        if (!load.invalidated) {
+            put(key, value);
+            if (load.invalidated) {
+                evictTiers(key);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        if (shared != null) {
+            shared.put(key, value);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidate(key);
+        evictTiers(key);
+    }
+
+    /**
+     * Drops the entry from this instance only, used when another instance has
+     * already evicted the shared tier and broadcast the change.
+     */
+    public void evictLocal(Object key) {
+        invalidate(key);
+        local.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        loading.keySet().forEach(this::invalidate);
+        if (shared != null) {
+            shared.clear();
+        }
+        local.clear();
+    }
+
+    private void invalidate(Object key) {
+        Load load = loading.remove(key);
+        if (load != null) {
+            load.invalidated = true;
+        }
+    }
+
+    private void evictTiers(Object key) {
+        if (shared != null) {
+            shared.evict(key);
+        }
+        local.evict(key);
+    }
+
+    private static class Load extends CompletableFuture<Object> {
+
+        private volatile boolean invalidated;
+    }
+}
@@ -0,0 +1,48 @@
+package com.eazybytes.accounts.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Runs the downstream Feign calls of fetchCustomerDetails. The calls spend
+     * almost all of their time blocked on I/O, so a virtual thread per call is
+     * cheaper than sizing a platform thread pool for peak fan-out.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService customerDetailsExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("customer-details-", 0).factory());
+    }
+
+    /**
+     * Sends the lanes of an outbox batch in parallel; each lane blocks on the
+     * broker acknowledgement of its events.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService outboxRelayExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("outbox-relay-", 0).factory());
+    }
+
+    /**
+     * With spring.threads.virtual.enabled, the time limiters of the Feign circuit
+     * breakers wait for the calls on virtual threads instead of a cached platform
+     * thread pool.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Customizer<Resilience4JCircuitBreakerFactory> virtualThreadCircuitBreakerCustomizer() {
+        return factory -> factory.configureExecutorService(Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("circuit-breaker-", 0).factory()));
+    }
+}
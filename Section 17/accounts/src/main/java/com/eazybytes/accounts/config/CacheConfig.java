@@ -0,0 +1,66 @@
+package com.eazybytes.accounts.config;
+
+import com.eazybytes.accounts.cache.TwoLevelCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CUSTOMERS_CACHE = "customers";
+
+    @Bean
+    public CacheManager cacheManager(CustomerCacheProperties properties,
+                                     ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        StatsCounter stats = new ConcurrentStatsCounter();
+        CaffeineCache local = new CaffeineCache(CUSTOMERS_CACHE, Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats(() -> stats)
+                .build());
+
+        Cache shared = null;
+        if (properties.getShared().isEnabled()) {
+            RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+                    .entryTtl(properties.getShared().getTtl())
+                    .serializeValuesWith(RedisSerializationContext.SerializationPair
+                            .fromSerializer(new GenericJackson2JsonRedisSerializer()));
+            shared = RedisCacheManager.builder(redisConnectionFactory.getObject())
+                    .cacheDefaults(redisCacheConfiguration)
+                    .build()
+                    .getCache(CUSTOMERS_CACHE);
+        }
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(new TwoLevelCache(local, shared, stats)));
+        return cacheManager;
+    }
+
+    /**
+     * Publishes hit ratio, evictions and load time of the in-process tier to the
+     * Micrometer registry, the same way Spring Boot does for a plain Caffeine cache.
+     */
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getLocal().getNativeCache(), cache.getName(), tags);
+    }
+}
@@ -0,0 +1,37 @@
+package com.eazybytes.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "customer-cache")
+public class CustomerCacheProperties {
+
+    /**
+     * Maximum number of customers kept in the in-process cache.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Time after which an in-process entry is reloaded, even without an invalidation event.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    private Shared shared = new Shared();
+
+    @Getter
+    @Setter
+    public static class Shared {
+
+        /**
+         * Back the in-process cache with a Redis tier shared by all accounts instances.
+         */
+        private boolean enabled = false;
+
+        private Duration ttl = Duration.ofMinutes(30);
+    }
+}
@@ -0,0 +1,25 @@
+package com.eazybytes.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "customer-details")
+public class CustomerDetailsProperties {
+
+    /**
+     * Fetch loans and cards concurrently with the customer/account lookup
+     * instead of one after the other.
+     */
+    private boolean async = true;
+
+    /**
+     * Deadline for each of the loans and cards calls. A leg that misses it is
+     * treated like a fallback and left out of the response.
+     */
+    private Duration timeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,28 @@
+package com.eazybytes.accounts.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@LoadBalancerClients(defaultConfiguration = LoadBalancerConfig.class)
+public class FeignConfig {
+
+    /**
+     * Publishes the leased, available and pending connections of the pool the Feign
+     * clients share, as httpcomponents.httpclient.pool.* tagged httpclient=feign.
+     */
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager) {
+        return registry -> connectionManager.ifAvailable(manager -> {
+            if (manager instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign").bindTo(registry);
+            }
+        });
+    }
+}
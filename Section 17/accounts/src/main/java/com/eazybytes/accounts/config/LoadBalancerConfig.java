@@ -0,0 +1,36 @@
+package com.eazybytes.accounts.config;
+
+import com.eazybytes.accounts.loadbalancer.PeakEwmaLoadBalancer;
+import com.eazybytes.accounts.loadbalancer.RefreshingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Load balancer of each Feign client, created in the client's own context. Not a
+ * {@code @Configuration}, so component scanning leaves it to {@code @LoadBalancerClients}.
+ * Instances are preferred in the zone set by {@code spring.cloud.loadbalancer.zone},
+ * matched against their {@code zone} metadata; with no zone set all of them are used.
+ */
+public class LoadBalancerConfig {
+
+    @Bean
+    public ServiceInstanceListSupplier serviceInstanceListSupplier(ConfigurableApplicationContext context,
+                                                                   LoadBalancingProperties properties) {
+        return ServiceInstanceListSupplier.builder()
+                .withDiscoveryClient()
+                .with((ctx, delegate) -> new RefreshingServiceInstanceListSupplier(delegate, properties.getRefreshInterval()))
+                .withZonePreference()
+                .build(context);
+    }
+
+    @Bean
+    public PeakEwmaLoadBalancer peakEwmaLoadBalancer(Environment environment, LoadBalancerClientFactory loadBalancerClientFactory,
+                                                     LoadBalancingProperties properties) {
+        String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new PeakEwmaLoadBalancer(loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class),
+                properties.getDecayTime(), properties.getFailurePenalty());
+    }
+}
@@ -0,0 +1,28 @@
+package com.eazybytes.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "load-balancing")
+public class LoadBalancingProperties {
+
+    /**
+     * How often the instance lists of the Feign clients are fetched from discovery.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(5);
+
+    /**
+     * Time over which a latency spike of an instance fades from its average.
+     */
+    private Duration decayTime = Duration.ofSeconds(10);
+
+    /**
+     * Latency recorded for a failed call, at least.
+     */
+    private Duration failurePenalty = Duration.ofSeconds(1);
+}
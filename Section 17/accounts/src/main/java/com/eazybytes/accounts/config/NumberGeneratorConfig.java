@@ -0,0 +1,22 @@
+package com.eazybytes.accounts.config;
+
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.generator.NumberGenerator;
+import com.eazybytes.accounts.generator.SequenceBlockNumberGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class NumberGeneratorConfig {
+
+    @Bean
+    public NumberGenerator accountNumberGenerator(@Value("${number-generator.block-size:100}") int blockSize,
+                                                  JdbcTemplate jdbcTemplate,
+                                                  PlatformTransactionManager transactionManager) {
+        return new SequenceBlockNumberGenerator(AccountsConstants.ACCOUNT_NUMBER_SEQUENCE, blockSize,
+                AccountsConstants.MAX_ACCOUNT_NUMBER, jdbcTemplate, transactionManager);
+    }
+}
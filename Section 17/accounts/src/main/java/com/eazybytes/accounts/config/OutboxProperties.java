@@ -0,0 +1,47 @@
+package com.eazybytes.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    private Relay relay = new Relay();
+
+    @Getter
+    @Setter
+    public static class Relay {
+
+        /**
+         * Run the relay in this instance. Events are still written when disabled.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Delay between the end of one drain and the start of the next.
+         */
+        private Duration interval = Duration.ofMillis(500);
+
+        /**
+         * Number of events claimed and sent per batch.
+         */
+        private int batchSize = 200;
+
+        /**
+         * Number of events of one batch in flight at the same time.
+         */
+        private int lanes = 8;
+
+        /**
+         * How long claimed events are left to this relay. Should be longer than sending
+         * one batch takes; events whose claim runs out are picked up, and possibly sent
+         * again, by the next relay run of any instance.
+         */
+        private Duration claimTimeout = Duration.ofMinutes(2);
+    }
+}
@@ -8,10 +8,16 @@ public class AccountsConstants {
 
     public static final String  SAVINGS = "Savings";
     public static final String  ADDRESS = "123 Main Street, New York";
+    public static final String  ACCOUNT_NUMBER_SEQUENCE = "account_number";
+    public static final long  MAX_ACCOUNT_NUMBER = 9_999_999_999L;
+    public static final String  SEND_COMMUNICATION_BINDING = "sendCommunication-out-0";
     public static final String  STATUS_201 = "201";
     public static final String  MESSAGE_201 = "Account created successfully";
     public static final String  STATUS_200 = "200";
     public static final String  MESSAGE_200 = "Request processed successfully";
+    public static final String  STATUS_400 = "400";
+    public static final String  MESSAGE_400_EXISTS = "Customer already registered with given MobileNumber";
+    public static final String  MESSAGE_400_DUPLICATE = "MobileNumber appears more than once in the request";
     public static final String  STATUS_417 = "417";
     public static final String  MESSAGE_417_UPDATE= "Update operation failed. Please try again or contact Dev team";
     public static final String  MESSAGE_417_DELETE= "Delete operation failed. Please try again or contact Dev team";
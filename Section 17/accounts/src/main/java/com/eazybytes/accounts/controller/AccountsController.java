@@ -3,10 +3,17 @@ package com.eazybytes.accounts.controller;
 
 import com.eazybytes.accounts.constants.AccountsConstants;
 import com.eazybytes.accounts.dto.AccountContactInfoDto;
+import com.eazybytes.accounts.dto.BulkCreateResultDto;
 import com.eazybytes.accounts.dto.CustomerDto;
 import com.eazybytes.accounts.dto.ErrorResponseDto;
 import com.eazybytes.accounts.dto.ResponseDto;
 import com.eazybytes.accounts.service.IAccountsService;
+import com.eazybytes.accounts.service.IBulkAccountsService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +22,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
@@ -29,6 +39,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.concurrent.TimeoutException;
 
 @Tag(
@@ -44,6 +57,10 @@ public class AccountsController {
 
     private IAccountsService accountsService;
 
+    private IBulkAccountsService bulkAccountsService;
+
+    private ObjectMapper objectMapper;
+
     private AccountContactInfoDto accountContactInfoDto;
 
     @Value("${build.version}")
@@ -51,8 +68,11 @@ public class AccountsController {
 
     private Environment environment;
 
-    public AccountsController(IAccountsService accountsService, AccountContactInfoDto accountContactInfoDto, Environment environment) {
+    public AccountsController(IAccountsService accountsService, IBulkAccountsService bulkAccountsService, ObjectMapper objectMapper,
+                              AccountContactInfoDto accountContactInfoDto, Environment environment) {
         this.accountsService = accountsService;
+        this.bulkAccountsService = bulkAccountsService;
+        this.objectMapper = objectMapper;
         this.accountContactInfoDto = accountContactInfoDto;
         this.environment = environment;
     }
@@ -73,6 +93,52 @@ public class AccountsController {
 
     }
 
+    @Operation(
+            summary = "Bulk Create Account Rest API",
+            description = "REST API to create customers and accounts from a JSON array or NDJSON stream of customers. " +
+                    "One result per row is streamed back as NDJSON while the request is processed"
+    )
+
+    @ApiResponse(
+            responseCode = "200",
+            description = "HTTP Status Ok - One BulkCreateResult line per row",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = BulkCreateResultDto.class)
+            )
+    )
+    @PostMapping(path = "/bulk-create",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    public void bulkCreateAccounts(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        ServletOutputStream outputStream = response.getOutputStream();
+        ObjectWriter resultWriter = objectMapper.writerFor(BulkCreateResultDto.class);
+
+        // readValues iterates the elements of a top level array, or the values of an NDJSON stream
+        try (MappingIterator<CustomerDto> customers = objectMapper.readerFor(CustomerDto.class)
+                .readValues(request.getInputStream())) {
+            bulkAccountsService.createAccounts(customers, result -> {
+                try {
+                    outputStream.write(resultWriter.writeValueAsBytes(result));
+                    outputStream.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (RuntimeException ex) {
+            if (!(ex instanceof RuntimeJsonMappingException) && !(ex.getCause() instanceof JsonProcessingException)) {
+                throw ex;
+            }
+            logger.debug("Bulk create stopped on malformed input: {}", ex.getMessage());
+            outputStream.write(objectMapper.writeValueAsBytes(new ErrorResponseDto(request.getRequestURI(),
+                    HttpStatus.BAD_REQUEST, ex.getMessage(), LocalDateTime.now())));
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+    }
+
     @Operation(
             summary = "Fetch Account Rest API",
             description = "REST API to fetch a customer and an account for a customer"
@@ -0,0 +1,25 @@
+package com.eazybytes.accounts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+        name = "BulkCreateResult",
+        description = "Schema representing the outcome of one row of a bulk account creation request"
+)
+public record BulkCreateResultDto(
+
+        @Schema(description = "Position of the row in the request, starting at 0", example = "0")
+        long row,
+
+        @Schema(description = "Mobile number of the customer", example = "1234567890")
+        String mobileNumber,
+
+        @Schema(description = "Status code of the row", example = "201")
+        String statusCode,
+
+        @Schema(description = "Status message of the row", example = "Account created successfully")
+        String statusMessage,
+
+        @Schema(description = "Account number created for the customer", example = "1900000001")
+        Long accountNumber) {
+}
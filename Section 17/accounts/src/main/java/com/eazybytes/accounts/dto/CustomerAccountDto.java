@@ -0,0 +1,9 @@
+package com.eazybytes.accounts.dto;
+
+/**
+ * Read-only view of a customer joined with their account, populated directly by a
+ * JPQL constructor expression so no entities are loaded into the persistence context.
+ */
+public record CustomerAccountDto(String name, String email, String mobileNumber,
+                                 Long accountNumber, String accountType, String branchAddress) {
+}
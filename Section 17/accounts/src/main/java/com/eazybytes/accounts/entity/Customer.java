@@ -4,6 +4,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -17,7 +18,9 @@ import lombok.NoArgsConstructor;
 public class Customer extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "customer_id_generator")
+    @TableGenerator(name = "customer_id_generator", table = "number_sequence", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "customer_id", allocationSize = 50)
     private Long customerId;
     private String name;
     private String email;
@@ -0,0 +1,50 @@
+package com.eazybytes.accounts.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+@Entity
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_event_id_generator")
+    @TableGenerator(name = "outbox_event_id_generator", table = "number_sequence", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "outbox_event_id", allocationSize = 50)
+    private Long eventId;
+
+    /**
+     * Events with the same aggregate id are relayed in the order they were written.
+     */
+    private String aggregateId;
+
+    /**
+     * Name of the output binding the event is sent to.
+     */
+    private String destination;
+
+    private String payload;
+
+    private Instant createdAt;
+
+    /**
+     * Relay that is sending the event, until {@link #claimedUntil}.
+     */
+    private String claimedBy;
+
+    private Instant claimedUntil;
+}
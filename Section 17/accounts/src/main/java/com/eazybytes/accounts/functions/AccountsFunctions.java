@@ -1,11 +1,15 @@
 package com.eazybytes.accounts.functions;
 
+import com.eazybytes.accounts.cache.CustomerCacheInvalidator;
 import com.eazybytes.accounts.service.IAccountsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 
@@ -15,10 +19,21 @@ public class AccountsFunctions {
     private static final Logger log = LoggerFactory.getLogger(AccountsFunctions.class);
 
     @Bean
-    public Consumer<Long> updateCommunication(IAccountsService accountsService){
-        return accountNumber -> {
-            log.info("Updating Communication for the account number : " + accountNumber.toString());
-            accountsService.updateCommunicationStatus(accountNumber);
+    public Consumer<List<Long>> updateCommunication(IAccountsService accountsService){
+        return accountNumbers -> {
+            // redelivered confirmations and duplicates within a poll are dropped here or skipped by the update
+            Set<Long> distinct = new LinkedHashSet<>(accountNumbers);
+            distinct.remove(null);
+            int updated = accountsService.updateCommunicationStatus(distinct);
+            log.info("Updated Communication for {} of {} account numbers", updated, accountNumbers.size());
+        };
+    }
+
+    @Bean
+    public Consumer<String> evictCustomerCache(CustomerCacheInvalidator customerCacheInvalidator){
+        return mobileNumber -> {
+            log.debug("Evicting cached customer for the mobile number : {}", mobileNumber);
+            customerCacheInvalidator.evictLocal(mobileNumber);
         };
     }
 
@@ -0,0 +1,172 @@
+package com.eazybytes.accounts.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Picks the cheaper of two random instances, where the cost of an instance is its
+ * peak EWMA latency times its outstanding requests plus one. A slow response raises the
+ * average at once while fast ones only bring it down over {@code decayTime}, so a pod
+ * stalled in a GC pause or on a busy node stops receiving traffic within a few requests
+ * and gets it back gradually.
+ * <p>
+ * The latencies and outstanding counts come from the load balancer lifecycle callbacks
+ * Feign invokes around each call. Failures and 5xx responses count as at least
+ * {@code failurePenalty}, so an instance that fails fast does not look fast.
+ */
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    /**
+     * Cost of an instance with requests in flight but no completed one yet.
+     */
+    private static final double PENALTY = Long.MAX_VALUE >> 1;
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final long decayNanos;
+    private final long failurePenaltyNanos;
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+    private volatile List<ServiceInstance> knownInstances = List.of();
+
+    public PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                Duration decayTime, Duration failurePenalty) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.decayNanos = decayTime.toNanos();
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(instances -> {
+            Response<ServiceInstance> response = select(instances);
+            if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+                callback.selectedServiceInstance(response.getServer());
+            }
+            return response;
+        });
+    }
+
+    private Response<ServiceInstance> select(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        if (instances != knownInstances) {
+            forgetRemovedInstances(instances);
+        }
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(instances.size());
+        int second = (first + 1 + random.nextInt(instances.size() - 1)) % instances.size();
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        return new DefaultResponse(cost(b) < cost(a) ? b : a);
+    }
+
+    private void forgetRemovedInstances(List<ServiceInstance> instances) {
+        Set<String> keys = new HashSet<>(instances.size() * 2);
+        for (ServiceInstance instance : instances) {
+            keys.add(key(instance));
+        }
+        stats.keySet().retainAll(keys);
+        knownInstances = instances;
+    }
+
+    private double cost(ServiceInstance instance) {
+        InstanceStats instanceStats = stats.get(key(instance));
+        return instanceStats == null ? 0 : instanceStats.cost(decayNanos);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        stats.computeIfAbsent(key(lbResponse.getServer()), key -> new InstanceStats()).outstanding.incrementAndGet();
+        if (request.getContext() instanceof TimedRequestContext context) {
+            context.setRequestStartTime(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (completionContext.status() == CompletionContext.Status.DISCARD || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        InstanceStats instanceStats = stats.get(key(lbResponse.getServer()));
+        if (instanceStats == null) {
+            return;
+        }
+        instanceStats.outstanding.decrementAndGet();
+        if (!(completionContext.getLoadBalancerRequest().getContext() instanceof TimedRequestContext context)
+                || context.getRequestStartTime() == 0) {
+            return;
+        }
+        long rtt = System.nanoTime() - context.getRequestStartTime();
+        boolean failed = completionContext.status() == CompletionContext.Status.FAILED
+                || completionContext.getClientResponse() instanceof ResponseData response
+                && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError();
+        instanceStats.observe(failed ? Math.max(rtt, failurePenaltyNanos) : rtt, decayNanos);
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static final class InstanceStats {
+
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private double ewma;
+        private long stamp = System.nanoTime();
+
+        synchronized void observe(long rtt, long decayNanos) {
+            long now = System.nanoTime();
+            double weight = Math.exp(-(double) (now - stamp) / decayNanos);
+            ewma = rtt > ewma ? rtt : ewma * weight + rtt * (1 - weight);
+            stamp = now;
+        }
+
+        /**
+         * Decays the average as if a zero latency had been observed now, so an instance
+         * that was slow a while ago gets probed again.
+         */
+        synchronized double cost(long decayNanos) {
+            int pending = Math.max(outstanding.get(), 0);
+            double latency = ewma * Math.exp(-(double) (System.nanoTime() - stamp) / decayNanos);
+            if (latency == 0 && pending != 0) {
+                return PENALTY + pending;
+            }
+            return latency * (pending + 1);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.eazybytes.accounts.loadbalancer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Serves the last instance list fetched from discovery and refreshes it in the
+ * background, so no request waits on the discovery server once the first list is in.
+ * An empty result does not replace a known list: a failed or partial discovery response
+ * should not take every instance out of rotation.
+ */
+public class RefreshingServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshingServiceInstanceListSupplier.class);
+
+    private final Duration refreshInterval;
+    private volatile List<ServiceInstance> instances;
+    private Disposable refresh;
+
+    public RefreshingServiceInstanceListSupplier(ServiceInstanceListSupplier delegate, Duration refreshInterval) {
+        super(delegate);
+        this.refreshInterval = refreshInterval;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        List<ServiceInstance> current = instances;
+        if (current != null) {
+            return Flux.just(current);
+        }
+        return delegate.get().take(1).doOnNext(this::update);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        super.afterPropertiesSet();
+        refresh = Flux.interval(refreshInterval, refreshInterval)
+                .concatMap(tick -> delegate.get().next()
+                        .onErrorResume(ex -> {
+                            log.warn("Unable to refresh instances of {}, keeping the last list: {}", getServiceId(), ex.toString());
+                            return Mono.empty();
+                        }))
+                .subscribe(this::update);
+    }
+
+    private void update(List<ServiceInstance> fetched) {
+        if (!fetched.isEmpty() || instances == null) {
+            instances = fetched;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (refresh != null) {
+            refresh.dispose();
+        }
+        super.destroy();
+    }
+}
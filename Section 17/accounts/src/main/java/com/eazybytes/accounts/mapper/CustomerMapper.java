@@ -1,5 +1,7 @@
 package com.eazybytes.accounts.mapper;
 
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.CustomerAccountDto;
 import com.eazybytes.accounts.dto.CustomerDetailsDto;
 import com.eazybytes.accounts.dto.CustomerDto;
 import com.eazybytes.accounts.entity.Customer;
@@ -15,6 +17,18 @@ public class CustomerMapper {
         return customerDto;
     }
 
+    public static CustomerDto mapToCustomerDto(CustomerAccountDto customerAccountDto, CustomerDto customerDto) {
+        customerDto.setName(customerAccountDto.name());
+        customerDto.setEmail(customerAccountDto.email());
+        customerDto.setMobileNumber(customerAccountDto.mobileNumber());
+        AccountsDto accountsDto = new AccountsDto();
+        accountsDto.setAccountNumber(customerAccountDto.accountNumber());
+        accountsDto.setAccountType(customerAccountDto.accountType());
+        accountsDto.setBranchAddress(customerAccountDto.branchAddress());
+        customerDto.setAccountsDto(accountsDto);
+        return customerDto;
+    }
+
     public static Customer mapToCustomer(CustomerDto customerDto, Customer customer) {
         customer.setName(customerDto.getName());
         customer.setEmail(customerDto.getEmail());
@@ -28,4 +42,12 @@ public class CustomerMapper {
         customerDetailsDto.setMobileNumber(customer.getMobileNumber());
         return customerDetailsDto;
     }
+
+    public static CustomerDetailsDto mapToCustomerDetailsDto(CustomerDto customerDto, CustomerDetailsDto customerDetailsDto) {
+        customerDetailsDto.setName(customerDto.getName());
+        customerDetailsDto.setEmail(customerDto.getEmail());
+        customerDetailsDto.setMobileNumber(customerDto.getMobileNumber());
+        customerDetailsDto.setAccountsDto(customerDto.getAccountsDto());
+        return customerDetailsDto;
+    }
 }
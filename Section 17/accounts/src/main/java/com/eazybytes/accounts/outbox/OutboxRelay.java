@@ -0,0 +1,178 @@
+package com.eazybytes.accounts.outbox;
+
+import com.eazybytes.accounts.config.OutboxProperties;
+import com.eazybytes.accounts.entity.OutboxEvent;
+import com.eazybytes.accounts.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the outbox table to the message broker. A batch is first claimed for this
+ * relay in a short transaction, then sent without any transaction or row lock open, and
+ * the events the broker acknowledged are deleted in a second short transaction. Writers
+ * are never blocked by a slow broker, and several accounts instances share the work.
+ * An event is removed only after it was acknowledged; a crash before that, or a claim
+ * that runs out, sends it again (at-least-once).
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final StreamBridge streamBridge;
+    private final TransactionTemplate transactionTemplate;
+    private final String relayId = UUID.randomUUID().toString();
+    private final ExecutorService executor;
+    private final OutboxProperties.Relay properties;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter relayed;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, StreamBridge streamBridge,
+                       PlatformTransactionManager transactionManager,
+                       @Qualifier("outboxRelayExecutor") ExecutorService executor,
+                       OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.streamBridge = streamBridge;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // no gap locks, so the claim never holds up inserts by OutboxWriter
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.executor = executor;
+        this.properties = properties.getRelay();
+        TimeGauge.builder("outbox.relay.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest event still waiting in the outbox")
+                .register(meterRegistry);
+        this.relayed = Counter.builder("outbox.relay.events")
+                .description("Outbox events relayed to the broker")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.failed = Counter.builder("outbox.relay.events")
+                .description("Outbox events relayed to the broker")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Time to claim, send and delete one outbox batch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:500ms}")
+    public void relay() {
+        try {
+            boolean more = true;
+            while (more) {
+                more = Boolean.TRUE.equals(batchTimer.record(this::relayBatch));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay failed, retrying in the next run", ex);
+        }
+    }
+
+    /**
+     * @return true if the batch was full and sent completely, so more events are likely waiting
+     */
+    private boolean relayBatch() {
+        List<OutboxEvent> events = transactionTemplate.execute(status -> claimBatch());
+        if (events.isEmpty()) {
+            lagMillis.set(0);
+            return false;
+        }
+        lagMillis.set(Duration.between(events.getFirst().getCreatedAt(), Instant.now()).toMillis());
+
+        int laneCount = Math.min(properties.getLanes(), events.size());
+        List<List<OutboxEvent>> lanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        for (int i = 0; i < events.size(); i++) {
+            lanes.get(i % laneCount).add(events.get(i));
+        }
+        List<CompletableFuture<List<OutboxEvent>>> futures = lanes.stream()
+                .map(lane -> CompletableFuture.supplyAsync(() -> send(lane), executor))
+                .toList();
+        Set<Long> sent = futures.stream().flatMap(future -> future.join().stream())
+                .map(OutboxEvent::getEventId)
+                .collect(Collectors.toSet());
+        List<Long> unsent = events.stream().map(OutboxEvent::getEventId).filter(eventId -> !sent.contains(eventId)).toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventRepository.deleteAllByIdInBatch(sent);
+            if (!unsent.isEmpty()) {
+                outboxEventRepository.releaseClaims(unsent, relayId);
+            }
+        });
+        relayed.increment(sent.size());
+        failed.increment(unsent.size());
+        return sent.size() == properties.getBatchSize();
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        Instant now = Instant.now();
+        List<OutboxEvent> events = outboxEventRepository.findClaimable(now, PageRequest.of(0, properties.getBatchSize()));
+        Instant claimedUntil = now.plus(properties.getClaimTimeout());
+        for (OutboxEvent event : events) {
+            event.setClaimedBy(relayId);
+            event.setClaimedUntil(claimedUntil);
+        }
+        return events;
+    }
+
+    /**
+     * Sends the events of one lane one after the other. A batch holds at most one event
+     * per aggregate, so an event that fails does not hold back the rest of the lane.
+     */
+    private List<OutboxEvent> send(List<OutboxEvent> lane) {
+        List<OutboxEvent> sent = new ArrayList<>(lane.size());
+        for (OutboxEvent event : lane) {
+            Message<byte[]> message = MessageBuilder.withPayload(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                    .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON_VALUE)
+                    .setHeader(KafkaHeaders.KEY, event.getAggregateId().getBytes(StandardCharsets.UTF_8))
+                    .build();
+            try {
+                if (!streamBridge.send(event.getDestination(), message)) {
+                    log.warn("Outbox event {} was not accepted by {}", event.getEventId(), event.getDestination());
+                    continue;
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Outbox event {} could not be sent to {}: {}", event.getEventId(), event.getDestination(), ex.toString());
+                continue;
+            }
+            sent.add(event);
+        }
+        return sent;
+    }
+}
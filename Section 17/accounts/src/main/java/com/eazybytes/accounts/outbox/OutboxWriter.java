@@ -0,0 +1,43 @@
+package com.eazybytes.accounts.outbox;
+
+import com.eazybytes.accounts.entity.OutboxEvent;
+import com.eazybytes.accounts.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Records an event in the caller's transaction, so it is relayed if and only if
+     * the business change commits.
+     * @param destination - Output binding the event is sent to
+     * @param aggregateId - Key that orders the events and becomes the Kafka message key
+     * @param payload - Event body, stored as JSON
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String destination, Object aggregateId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Event payload cannot be serialized: " + payload, ex);
+        }
+        outboxEventRepository.save(new OutboxEvent(null, String.valueOf(aggregateId), destination, json, Instant.now(),
+                null, null));
+    }
+}
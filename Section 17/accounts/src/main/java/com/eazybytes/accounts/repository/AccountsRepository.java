@@ -3,10 +3,13 @@ package com.eazybytes.accounts.repository;
 import com.eazybytes.accounts.entity.Accounts;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
@@ -17,4 +20,11 @@ public interface AccountsRepository extends JpaRepository<Accounts, Long> {
     @Transactional
     @Modifying
     void deleteByCustomerId(Long customerId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Accounts a SET a.communicationSw = true, a.updatedAt = :updatedAt, a.updatedBy = :updatedBy " +
+            "WHERE a.accountNumber IN :accountNumbers AND (a.communicationSw IS NULL OR a.communicationSw = false)")
+    int markCommunicationSent(@Param("accountNumbers") Collection<Long> accountNumbers,
+                              @Param("updatedAt") LocalDate updatedAt, @Param("updatedBy") String updatedBy);
 }
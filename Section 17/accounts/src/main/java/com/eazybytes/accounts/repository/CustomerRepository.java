@@ -1,13 +1,27 @@
 package com.eazybytes.accounts.repository;
 
+import com.eazybytes.accounts.dto.CustomerAccountDto;
 import com.eazybytes.accounts.entity.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     Optional<Customer> findByMobileNumber(String mobileNumber);
+
+    @Query("SELECT new com.eazybytes.accounts.dto.CustomerAccountDto(c.name, c.email, c.mobileNumber, " +
+            "a.accountNumber, a.accountType, a.branchAddress) " +
+            "FROM Customer c JOIN Accounts a ON a.customerId = c.customerId " +
+            "WHERE c.mobileNumber = :mobileNumber")
+    Optional<CustomerAccountDto> findCustomerAccountByMobileNumber(@Param("mobileNumber") String mobileNumber);
+
+    @Query("SELECT c.mobileNumber FROM Customer c WHERE c.mobileNumber IN :mobileNumbers")
+    Set<String> findRegisteredMobileNumbers(@Param("mobileNumbers") Collection<String> mobileNumbers);
 }
@@ -0,0 +1,44 @@
+package com.eazybytes.accounts.repository;
+
+import com.eazybytes.accounts.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the oldest events that are not claimed by a relay, or whose claim expired.
+     * Only the first pending event of each aggregate qualifies, so a later event of an
+     * account is never sent before an earlier one has been sent and deleted, even by
+     * another instance. The lock timeout of -2 is rendered as SKIP LOCKED: rows another
+     * relay is claiming at the same time are left to it instead of waiting.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE (e.claimedUntil IS NULL OR e.claimedUntil < :now) "
+            + "AND NOT EXISTS (SELECT 1 FROM OutboxEvent o WHERE o.aggregateId = e.aggregateId "
+            + "AND (o.createdAt < e.createdAt OR o.createdAt = e.createdAt AND o.eventId < e.eventId)) "
+            + "ORDER BY e.createdAt, e.eventId")
+    List<OutboxEvent> findClaimable(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * Hands the events back to the next relay run without waiting for the claim to expire.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedBy = NULL, e.claimedUntil = NULL "
+            + "WHERE e.eventId IN :eventIds AND e.claimedBy = :claimedBy")
+    int releaseClaims(@Param("eventIds") Collection<Long> eventIds, @Param("claimedBy") String claimedBy);
+}
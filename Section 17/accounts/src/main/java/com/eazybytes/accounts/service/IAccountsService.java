@@ -2,6 +2,8 @@ package com.eazybytes.accounts.service;
 
 import com.eazybytes.accounts.dto.CustomerDto;
 
+import java.util.Collection;
+
 public interface IAccountsService {
 
     /**
@@ -31,4 +33,12 @@ public interface IAccountsService {
     boolean deleteAccount(String mobileNumber);
 
     boolean updateCommunicationStatus(Long accountNumber);
+
+    /**
+     * Flags the communication as sent for all given accounts in one statement.
+     * Accounts that are already flagged or no longer exist are skipped.
+     * @param accountNumbers
+     * @return number of accounts that were updated
+     */
+    int updateCommunicationStatus(Collection<Long> accountNumbers);
 }
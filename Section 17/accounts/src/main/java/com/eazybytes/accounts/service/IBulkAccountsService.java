@@ -0,0 +1,18 @@
+package com.eazybytes.accounts.service;
+
+import com.eazybytes.accounts.dto.BulkCreateResultDto;
+import com.eazybytes.accounts.dto.CustomerDto;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface IBulkAccountsService {
+
+    /**
+     * Creates a customer and account for every row, working through the input in chunks
+     * so the request is never held in memory as a whole.
+     * @param customers - rows to onboard, read lazily
+     * @param results - receives one result per row, in input order, as each chunk completes
+     */
+    void createAccounts(Iterator<CustomerDto> customers, Consumer<BulkCreateResultDto> results);
+}
@@ -9,7 +9,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "cards", url= "http://cards:9000", fallback = CardsFallback.class)
+@FeignClient(name = "cards", fallback = CardsFallback.class)
 public  interface CardsFeignClient {
 
     @GetMapping(value = "/api/fetch" , consumes = "application/json")
@@ -1,5 +1,7 @@
 package com.eazybytes.accounts.service.impl;
 
+import com.eazybytes.accounts.cache.CustomerCacheInvalidator;
+import com.eazybytes.accounts.config.CacheConfig;
 import com.eazybytes.accounts.constants.AccountsConstants;
 import com.eazybytes.accounts.dto.AccountsDto;
 import com.eazybytes.accounts.dto.AccountsMessageDto;
@@ -8,20 +10,25 @@ import com.eazybytes.accounts.entity.Accounts;
 import com.eazybytes.accounts.entity.Customer;
 import com.eazybytes.accounts.exception.CustomerAlreadyExistsException;
 import com.eazybytes.accounts.exception.ResourceNotFoundException;
+import com.eazybytes.accounts.generator.NumberGenerator;
 import com.eazybytes.accounts.mapper.AccountsMapper;
 import com.eazybytes.accounts.mapper.CustomerMapper;
+import com.eazybytes.accounts.outbox.OutboxWriter;
 import com.eazybytes.accounts.repository.AccountsRepository;
 import com.eazybytes.accounts.repository.CustomerRepository;
 import com.eazybytes.accounts.service.IAccountsService;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
-import java.util.Random;
 
 @Service
 @AllArgsConstructor
@@ -30,9 +37,13 @@ public class AccountsServiceImpl implements IAccountsService {
     private static final Logger log = LoggerFactory.getLogger(AccountsServiceImpl.class);
     private AccountsRepository accountsRepository;
     private CustomerRepository customerRepository;
-    private final StreamBridge streamBridge;
+    private final OutboxWriter outboxWriter;
+    private final CustomerCacheInvalidator customerCacheInvalidator;
+    private final NumberGenerator accountNumberGenerator;
+    private final AuditorAware<String> auditAwareImpl;
 
     @Override
+    @Transactional
     public void createAccount(CustomerDto customerDto) {
         Customer customer = CustomerMapper.mapToCustomer(customerDto, new Customer());
         Optional<Customer> byMobileNumber = customerRepository.findByMobileNumber(customerDto.getMobileNumber());
@@ -47,13 +58,19 @@ public class AccountsServiceImpl implements IAccountsService {
     private void sendCommunication(Accounts account, Customer customer){
         var accountsMessageDto = new AccountsMessageDto(account.getAccountNumber(), customer.getName(),
                 customer.getEmail(), customer.getMobileNumber());
-        log.info("Sending Communication request for the details: {}", accountsMessageDto);
-        var result = streamBridge.send("sendCommunication-out-0",accountsMessageDto);
-        log.info("Is the communication request successfully processed? : {}", result);
-
+        log.info("Queueing Communication request for the details: {}", accountsMessageDto);
+        outboxWriter.append(AccountsConstants.SEND_COMMUNICATION_BINDING, account.getAccountNumber(), accountsMessageDto);
     }
     @Override
+    @Cacheable(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#mobileNumber", sync = true)
     public CustomerDto fetchAccounts(String mobileNumber) {
+        Optional<CustomerDto> customerAccount = customerRepository.findCustomerAccountByMobileNumber(mobileNumber)
+                .map(customerAccountDto -> CustomerMapper.mapToCustomerDto(customerAccountDto, new CustomerDto()));
+        if(customerAccount.isPresent()){
+            return customerAccount.get();
+        }
+
+        // Nothing joined: look the rows up separately to report which one is missing
         Customer customer = customerRepository.findByMobileNumber(mobileNumber).orElseThrow(
                 () -> new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber)
         );
@@ -88,6 +105,7 @@ public class AccountsServiceImpl implements IAccountsService {
 
             CustomerMapper.mapToCustomerDto(customer, new CustomerDto());
             customerRepository.save(customer);
+            customerCacheInvalidator.evict(customer.getMobileNumber());
             isUpdated = true;
 
         }
@@ -101,6 +119,7 @@ public class AccountsServiceImpl implements IAccountsService {
         );
         accountsRepository.deleteByCustomerId(customer.getCustomerId());
         customerRepository.deleteById(customer.getCustomerId());
+        customerCacheInvalidator.evict(mobileNumber);
         return true;
     }
 
@@ -121,13 +140,19 @@ public class AccountsServiceImpl implements IAccountsService {
 
     }
 
+    @Override
+    public int updateCommunicationStatus(Collection<Long> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return 0;
+        }
+        return accountsRepository.markCommunicationSent(accountNumbers, LocalDate.now(),
+                auditAwareImpl.getCurrentAuditor().orElse(null));
+    }
+
     private Accounts createNewAccount(Customer customer) {
         Accounts newAccount = new Accounts();
         newAccount.setCustomerId(customer.getCustomerId());
-        long randomAccNumber = 1000000000L + new
-                Random().nextInt(900000000);
-
-        newAccount.setAccountNumber(randomAccNumber);
+        newAccount.setAccountNumber(accountNumberGenerator.nextNumber());
         newAccount.setAccountType(AccountsConstants.SAVINGS);
         newAccount.setBranchAddress(AccountsConstants.ADDRESS);
 
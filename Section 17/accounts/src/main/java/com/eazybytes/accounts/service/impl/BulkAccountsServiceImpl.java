@@ -0,0 +1,188 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.dto.AccountsMessageDto;
+import com.eazybytes.accounts.dto.BulkCreateResultDto;
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.entity.Accounts;
+import com.eazybytes.accounts.entity.Customer;
+import com.eazybytes.accounts.generator.NumberGenerator;
+import com.eazybytes.accounts.mapper.CustomerMapper;
+import com.eazybytes.accounts.outbox.OutboxWriter;
+import com.eazybytes.accounts.repository.CustomerRepository;
+import com.eazybytes.accounts.service.IBulkAccountsService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Service
+public class BulkAccountsServiceImpl implements IBulkAccountsService {
+
+    private final CustomerRepository customerRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final NumberGenerator accountNumberGenerator;
+    private final OutboxWriter outboxWriter;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public BulkAccountsServiceImpl(CustomerRepository customerRepository, EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager, NumberGenerator accountNumberGenerator,
+                                   OutboxWriter outboxWriter, Validator validator,
+                                   @Value("${bulk-create.chunk-size:500}") int chunkSize) {
+        this.customerRepository = customerRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.outboxWriter = outboxWriter;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void createAccounts(Iterator<CustomerDto> customers, Consumer<BulkCreateResultDto> results) {
+        List<CustomerDto> chunk = new ArrayList<>(chunkSize);
+        long firstRow = 0;
+        while (true) {
+            CustomerDto customerDto;
+            try {
+                if (!customers.hasNext()) {
+                    break;
+                }
+                customerDto = customers.next();
+            } catch (RuntimeException ex) {
+                // rows read before a malformed one are still created and reported
+                if (!chunk.isEmpty()) {
+                    createChunk(firstRow, chunk, results);
+                }
+                throw ex;
+            }
+            chunk.add(customerDto);
+            if (chunk.size() == chunkSize) {
+                createChunk(firstRow, chunk, results);
+                firstRow += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            createChunk(firstRow, chunk, results);
+        }
+    }
+
+    private void createChunk(long firstRow, List<CustomerDto> chunk, Consumer<BulkCreateResultDto> results) {
+        BulkCreateResultDto[] chunkResults = new BulkCreateResultDto[chunk.size()];
+        Set<String> mobileNumbers = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            CustomerDto customerDto = chunk.get(i);
+            Set<ConstraintViolation<CustomerDto>> violations = validator.validate(customerDto);
+            if (!violations.isEmpty()) {
+                chunkResults[i] = rejected(firstRow + i, customerDto, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .collect(Collectors.joining(", ")));
+            } else if (!mobileNumbers.add(customerDto.getMobileNumber())) {
+                chunkResults[i] = rejected(firstRow + i, customerDto, AccountsConstants.MESSAGE_400_DUPLICATE);
+            }
+        }
+
+        Set<String> registered = mobileNumbers.isEmpty() ? Set.of()
+                : customerRepository.findRegisteredMobileNumbers(mobileNumbers);
+        List<Integer> accepted = new ArrayList<>(mobileNumbers.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (chunkResults[i] != null) {
+                continue;
+            }
+            if (registered.contains(chunk.get(i).getMobileNumber())) {
+                chunkResults[i] = rejected(firstRow + i, chunk.get(i), AccountsConstants.MESSAGE_400_EXISTS);
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            List<CustomerDto> newCustomers = accepted.stream().map(chunk::get).toList();
+            long[] accountNumbers = null;
+            try {
+                accountNumbers = transactionTemplate.execute(status -> insert(newCustomers));
+            } catch (DataIntegrityViolationException ex) {
+                // another request registered one of the numbers after the lookup above;
+                // the chunk was rolled back, so its rows are retried one at a time
+            }
+            for (int j = 0; j < accepted.size(); j++) {
+                int i = accepted.get(j);
+                chunkResults[i] = accountNumbers != null ? created(firstRow + i, chunk.get(i), accountNumbers[j])
+                        : createOne(firstRow + i, chunk.get(i));
+            }
+        }
+
+        for (BulkCreateResultDto chunkResult : chunkResults) {
+            results.accept(chunkResult);
+        }
+    }
+
+    private BulkCreateResultDto createOne(long row, CustomerDto customerDto) {
+        try {
+            long[] accountNumber = transactionTemplate.execute(status -> insert(List.of(customerDto)));
+            return created(row, customerDto, accountNumber[0]);
+        } catch (DataIntegrityViolationException ex) {
+            return rejected(row, customerDto, AccountsConstants.MESSAGE_400_EXISTS);
+        }
+    }
+
+    /**
+     * Persists the chunk in one flush; with table generated customer ids and
+     * hibernate.jdbc.batch_size set, Hibernate sends the inserts as JDBC batches.
+     * The communication requests go to the outbox in the same transaction.
+     */
+    private long[] insert(List<CustomerDto> customers) {
+        List<Customer> newCustomers = new ArrayList<>(customers.size());
+        for (CustomerDto customerDto : customers) {
+            Customer customer = CustomerMapper.mapToCustomer(customerDto, new Customer());
+            entityManager.persist(customer);
+            newCustomers.add(customer);
+        }
+
+        long[] accountNumbers = new long[customers.size()];
+        for (int i = 0; i < accountNumbers.length; i++) {
+            Accounts newAccount = new Accounts();
+            newAccount.setCustomerId(newCustomers.get(i).getCustomerId());
+            newAccount.setAccountNumber(accountNumberGenerator.nextNumber());
+            newAccount.setAccountType(AccountsConstants.SAVINGS);
+            newAccount.setBranchAddress(AccountsConstants.ADDRESS);
+            entityManager.persist(newAccount);
+            accountNumbers[i] = newAccount.getAccountNumber();
+
+            CustomerDto customerDto = customers.get(i);
+            outboxWriter.append(AccountsConstants.SEND_COMMUNICATION_BINDING, newAccount.getAccountNumber(),
+                    new AccountsMessageDto(newAccount.getAccountNumber(), customerDto.getName(),
+                            customerDto.getEmail(), customerDto.getMobileNumber()));
+        }
+
+        // flushed through the repository, which translates a unique key violation
+        // into a DataIntegrityViolationException
+        customerRepository.flush();
+        entityManager.clear();
+        return accountNumbers;
+    }
+
+    private BulkCreateResultDto created(long row, CustomerDto customerDto, long accountNumber) {
+        return new BulkCreateResultDto(row, customerDto.getMobileNumber(), AccountsConstants.STATUS_201,
+                AccountsConstants.MESSAGE_201, accountNumber);
+    }
+
+    private BulkCreateResultDto rejected(long row, CustomerDto customerDto, String message) {
+        return new BulkCreateResultDto(row, customerDto.getMobileNumber(), AccountsConstants.STATUS_400, message, null);
+    }
+}
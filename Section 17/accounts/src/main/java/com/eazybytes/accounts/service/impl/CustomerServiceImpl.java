@@ -1,31 +1,46 @@
 package com.eazybytes.accounts.service.impl;
 
-import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.config.CustomerDetailsProperties;
 import com.eazybytes.accounts.dto.CardsDto;
 import com.eazybytes.accounts.dto.CustomerDetailsDto;
 import com.eazybytes.accounts.dto.LoansDto;
-import com.eazybytes.accounts.entity.Accounts;
-import com.eazybytes.accounts.entity.Customer;
-import com.eazybytes.accounts.exception.ResourceNotFoundException;
-import com.eazybytes.accounts.mapper.AccountsMapper;
 import com.eazybytes.accounts.mapper.CustomerMapper;
-import com.eazybytes.accounts.repository.AccountsRepository;
-import com.eazybytes.accounts.repository.CustomerRepository;
+import com.eazybytes.accounts.service.IAccountsService;
 import com.eazybytes.accounts.service.ICustomerService;
 import com.eazybytes.accounts.service.client.CardsFeignClient;
 import com.eazybytes.accounts.service.client.LoansFeignClient;
-import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 @Service
-@AllArgsConstructor
 public class CustomerServiceImpl implements ICustomerService {
 
-    private AccountsRepository accountsRepository;
-    private CustomerRepository customerRepository;
+    private static final Logger log = LoggerFactory.getLogger(CustomerServiceImpl.class);
+
+    private IAccountsService accountsService;
     private CardsFeignClient cardsFeignClient;
     private LoansFeignClient loansFeignClient;
+    private CustomerDetailsProperties customerDetailsProperties;
+    private ExecutorService customerDetailsExecutor;
+
+    public CustomerServiceImpl(IAccountsService accountsService, CardsFeignClient cardsFeignClient,
+                               LoansFeignClient loansFeignClient, CustomerDetailsProperties customerDetailsProperties,
+                               @Qualifier("customerDetailsExecutor") ExecutorService customerDetailsExecutor) {
+        this.accountsService = accountsService;
+        this.cardsFeignClient = cardsFeignClient;
+        this.loansFeignClient = loansFeignClient;
+        this.customerDetailsProperties = customerDetailsProperties;
+        this.customerDetailsExecutor = customerDetailsExecutor;
+    }
+
     /**
      *
      * @param mobileNumber - Input Mobile Number
@@ -33,16 +48,38 @@ public class CustomerServiceImpl implements ICustomerService {
      */
     @Override
     public CustomerDetailsDto fetchCustomerDetails(String mobileNumber, String correlationId) {
-        Customer customer = customerRepository.findByMobileNumber(mobileNumber).orElseThrow(
-                () -> new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber)
-        );
+        if(!customerDetailsProperties.isAsync()) {
+            return fetchCustomerDetailsSequentially(mobileNumber, correlationId);
+        }
 
-        Accounts accounts = accountsRepository.findByCustomerId(customer.getCustomerId()).orElseThrow(
-                () -> new ResourceNotFoundException("Account", "customerId", customer.getCustomerId().toString())
-        );
+        CompletableFuture<ResponseEntity<LoansDto>> loansFuture =
+                fetchAsync("loans", () -> loansFeignClient.fetchLoanDetails(correlationId, mobileNumber));
+        CompletableFuture<ResponseEntity<CardsDto>> cardsFuture =
+                fetchAsync("cards", () -> cardsFeignClient.fetchCardDetails(correlationId, mobileNumber));
 
-        CustomerDetailsDto customerDetailsDto = CustomerMapper.mapToCustomerDetailsDto(customer, new CustomerDetailsDto());
-        customerDetailsDto.setAccountsDto(AccountsMapper.mapToAccountsDto(accounts, new AccountsDto()));
+        CustomerDetailsDto customerDetailsDto;
+        try {
+            customerDetailsDto = fetchCustomerAndAccount(mobileNumber);
+        } catch (RuntimeException ex) {
+            loansFuture.cancel(true);
+            cardsFuture.cancel(true);
+            throw ex;
+        }
+
+        ResponseEntity<LoansDto> loansDtoResponseEntity = loansFuture.join();
+        if(null !=loansDtoResponseEntity) {
+            customerDetailsDto.setLoansDto(loansDtoResponseEntity.getBody());
+        }
+
+        ResponseEntity<CardsDto> cardsDtoResponseEntity = cardsFuture.join();
+        if(cardsDtoResponseEntity != null) {
+            customerDetailsDto.setCardsDto(cardsDtoResponseEntity.getBody());
+        }
+        return customerDetailsDto;
+    }
+
+    private CustomerDetailsDto fetchCustomerDetailsSequentially(String mobileNumber, String correlationId) {
+        CustomerDetailsDto customerDetailsDto = fetchCustomerAndAccount(mobileNumber);
 
         ResponseEntity<LoansDto> loansDtoResponseEntity = loansFeignClient.fetchLoanDetails(correlationId, mobileNumber);
         if(null !=loansDtoResponseEntity) {
@@ -54,8 +91,23 @@ public class CustomerServiceImpl implements ICustomerService {
             customerDetailsDto.setCardsDto(cardsDtoResponseEntity.getBody());
         }
         return customerDetailsDto;
+    }
 
+    private CustomerDetailsDto fetchCustomerAndAccount(String mobileNumber) {
+        return CustomerMapper.mapToCustomerDetailsDto(accountsService.fetchAccounts(mobileNumber), new CustomerDetailsDto());
+    }
 
-
+    /**
+     * Starts a downstream call on the customer details executor. A call that fails or
+     * misses the deadline completes with null, the same way the Feign fallbacks do, so
+     * the caller still gets a partial response.
+     */
+    private <T> CompletableFuture<ResponseEntity<T>> fetchAsync(String leg, Supplier<ResponseEntity<T>> call) {
+        return CompletableFuture.supplyAsync(call, customerDetailsExecutor)
+                .orTimeout(customerDetailsProperties.getTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn("Unable to fetch {} details, returning partial response: {}", leg, ex.toString());
+                    return null;
+                });
     }
 }
@@ -0,0 +1,44 @@
+CREATE TABLE IF NOT EXISTS `customer` (
+    `customer_id` int AUTO_INCREMENT  PRIMARY KEY,
+    `name` varchar(100) NOT NULL,
+    `email` varchar(100) NOT NULL,
+    `mobile_number` varchar(20) NOT NULL,
+    `created_at` date NOT NULL,
+    `created_by` varchar(20) NOT NULL,
+    `updated_at` date DEFAULT NULL,
+    `updated_by` varchar(20) DEFAULT NULL
+    );
+
+CREATE TABLE IF NOT EXISTS `accounts` (
+    `customer_id` int NOT NULL,
+    `account_number` int AUTO_INCREMENT  PRIMARY KEY,
+    `account_type` varchar(100) NOT NULL,
+    `branch_address` varchar(200) NOT NULL,
+    `communication_sw` BOOLEAN,
+    `created_at` date NOT NULL,
+    `created_by` varchar(20) NOT NULL,
+    `updated_at` date DEFAULT NULL,
+    `updated_by` varchar(20) DEFAULT NULL
+    );
+
+CREATE TABLE IF NOT EXISTS `number_sequence` (
+    `sequence_name` varchar(50) PRIMARY KEY,
+    `next_val` bigint NOT NULL
+    );
+
+-- Starts above the range handed out by the old random generator (1000000000 - 1899999999)
+INSERT IGNORE INTO `number_sequence` (`sequence_name`, `next_val`) VALUES ('account_number', 1900000000);
+
+-- Hibernate hands out customer_id values in blocks from this row (pooled-lo), starting after existing rows
+INSERT IGNORE INTO `number_sequence` (`sequence_name`, `next_val`)
+    SELECT 'customer_id', COALESCE(MAX(`customer_id`), 0) + 1 FROM `customer`;
+
+CREATE TABLE IF NOT EXISTS `outbox_event` (
+    `event_id` bigint PRIMARY KEY,
+    `aggregate_id` varchar(50) NOT NULL,
+    `destination` varchar(100) NOT NULL,
+    `payload` text NOT NULL,
+    `created_at` datetime(6) NOT NULL
+    );
+
+INSERT IGNORE INTO `number_sequence` (`sequence_name`, `next_val`) VALUES ('outbox_event_id', 1);
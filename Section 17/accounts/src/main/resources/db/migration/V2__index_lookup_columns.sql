@@ -0,0 +1,12 @@
+-- The entities map these ids as Long, and account numbers are handed out from 1900000000
+-- on, close to the int limit
+ALTER TABLE `customer` MODIFY `customer_id` bigint NOT NULL AUTO_INCREMENT;
+ALTER TABLE `accounts` MODIFY `account_number` bigint NOT NULL AUTO_INCREMENT;
+ALTER TABLE `accounts` MODIFY `customer_id` bigint NOT NULL;
+
+-- findByMobileNumber, findCustomerAccountByMobileNumber and findRegisteredMobileNumbers;
+-- a customer is registered once per mobile number
+CREATE UNIQUE INDEX `ux_customer_mobile_number` ON `customer` (`mobile_number`);
+
+-- findByCustomerId, deleteByCustomerId and the customer join; one account per customer
+CREATE UNIQUE INDEX `ux_accounts_customer_id` ON `accounts` (`customer_id`);
@@ -0,0 +1,9 @@
+-- Relays claim events for a while instead of holding row locks while they send
+ALTER TABLE `outbox_event` ADD COLUMN `claimed_by` varchar(64) DEFAULT NULL;
+ALTER TABLE `outbox_event` ADD COLUMN `claimed_until` datetime(6) DEFAULT NULL;
+
+-- findClaimable walks the events in creation order
+CREATE INDEX `ix_outbox_event_created_at` ON `outbox_event` (`created_at`, `event_id`);
+
+-- findClaimable looks for an earlier event of the same aggregate
+CREATE INDEX `ix_outbox_event_aggregate_id` ON `outbox_event` (`aggregate_id`, `created_at`, `event_id`);
@@ -0,0 +1,117 @@
+package com.eazybytes.accounts.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoLevelCacheTests {
+
+    private static final String KEY = "4354437687";
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final CaffeineCache local = new CaffeineCache("customers", Caffeine.newBuilder().build());
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void evictDuringLoadDropsLoadedValue() throws Exception {
+        ConcurrentMapCache shared = new ConcurrentMapCache("customers");
+        TwoLevelCache cache = new TwoLevelCache(local, shared);
+        assertStaleLoadIsDropped(cache, shared, cache::evict);
+    }
+
+    @Test
+    void evictLocalDuringLoadDropsLoadedValue() throws Exception {
+        ConcurrentMapCache shared = new ConcurrentMapCache("customers");
+        TwoLevelCache cache = new TwoLevelCache(local, shared);
+        // another instance evicts the shared tier, then the broadcast arrives here
+        assertStaleLoadIsDropped(cache, shared, key -> {
+            shared.evict(key);
+            cache.evictLocal(key);
+        });
+    }
+
+    @Test
+    void evictWhileStoringRemovesStoredValue() {
+        TwoLevelCache[] cache = new TwoLevelCache[1];
+        ConcurrentMapCache shared = new ConcurrentMapCache("customers") {
+            @Override
+            public void put(Object key, Object value) {
+                // the eviction lands after the load checked it was still current
+                cache[0].evict(key);
+                super.put(key, value);
+            }
+        };
+        cache[0] = new TwoLevelCache(local, shared);
+
+        assertThat(cache[0].get(KEY, () -> "stale")).isEqualTo("stale");
+
+        assertThat(local.get(KEY)).isNull();
+        assertThat(shared.get(KEY)).isNull();
+    }
+
+    @Test
+    void loadIsRecordedInLocalStats() {
+        ConcurrentStatsCounter stats = new ConcurrentStatsCounter();
+        CaffeineCache recorded = new CaffeineCache("customers", Caffeine.newBuilder().recordStats(() -> stats).build());
+        TwoLevelCache cache = new TwoLevelCache(recorded, new ConcurrentMapCache("customers"), stats);
+
+        assertThat(cache.get(KEY, () -> "loaded")).isEqualTo("loaded");
+        assertThat(cache.get(KEY, () -> "reloaded")).isEqualTo("loaded");
+
+        CacheStats snapshot = stats.snapshot();
+        assertThat(snapshot.missCount()).isEqualTo(1);
+        assertThat(snapshot.hitCount()).isEqualTo(1);
+        assertThat(snapshot.loadSuccessCount()).isEqualTo(1);
+        assertThat(snapshot.totalLoadTime()).isPositive();
+    }
+
+    private void assertStaleLoadIsDropped(TwoLevelCache cache, ConcurrentMapCache shared, Consumer<Object> evict)
+            throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        Future<String> staleLoad = executor.submit(() -> cache.get(KEY, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            // read before the update that evicts the key commits
+            evicted.await();
+            return "stale";
+        }));
+
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        evict.accept(KEY);
+        evicted.countDown();
+
+        // callers already waiting on the load still get its value
+        assertThat(staleLoad.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        assertThat(local.get(KEY)).isNull();
+        assertThat(shared.get(KEY)).isNull();
+
+        assertThat(cache.get(KEY, () -> {
+            loads.incrementAndGet();
+            return "fresh";
+        })).isEqualTo("fresh");
+        assertThat(loads).hasValue(2);
+        assertThat(shared.get(KEY).get()).isEqualTo("fresh");
+    }
+}
@@ -0,0 +1,144 @@
+package com.eazybytes.accounts.repository;
+
+import com.eazybytes.accounts.AccountsApplication;
+import com.eazybytes.accounts.audit.AuditAwareImpl;
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.entity.Accounts;
+import com.eazybytes.accounts.entity.Customer;
+import com.eazybytes.accounts.entity.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the repository queries against MySQL with the Flyway schema and fails if any of
+ * them reads a table without using an index, as counted by performance_schema.
+ * Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {"spring.cloud.config.enabled=false", "spring.config.import="})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTests {
+
+    private static final int CUSTOMERS = 500;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4").withUsername("root");
+
+    /**
+     * Only JPA and the repositories; the application class would also bring in Feign.
+     */
+    @Configuration
+    @AutoConfigurationPackage(basePackageClasses = AccountsApplication.class)
+    @EnableJpaAuditing(auditorAwareRef = "auditAwareImpl")
+    @Import(AuditAwareImpl.class)
+    static class RepositoryConfig {
+    }
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountsRepository accountsRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createCustomers() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        for (int i = 0; i < CUSTOMERS; i++) {
+            Customer customer = new Customer();
+            customer.setName("Customer " + i);
+            customer.setEmail("customer" + i + "@eazybytes.com");
+            customer.setMobileNumber(mobileNumber(i));
+            customerRepository.save(customer);
+
+            Accounts accounts = new Accounts();
+            accounts.setCustomerId(customer.getCustomerId());
+            accounts.setAccountNumber(1_900_000_000L + i);
+            accounts.setAccountType(AccountsConstants.SAVINGS);
+            accounts.setBranchAddress(AccountsConstants.ADDRESS);
+            accountsRepository.save(accounts);
+
+            OutboxEvent outboxEvent = new OutboxEvent();
+            outboxEvent.setAggregateId(Long.toString(accounts.getAccountNumber()));
+            outboxEvent.setDestination(AccountsConstants.SEND_COMMUNICATION_BINDING);
+            outboxEvent.setPayload("{}");
+            outboxEvent.setCreatedAt(Instant.now());
+            outboxEventRepository.save(outboxEvent);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void repositoryQueriesUseIndexes() {
+        Map<String, Long> before = tableScans();
+
+        Customer customer = customerRepository.findByMobileNumber(mobileNumber(7)).orElseThrow();
+        assertThat(customerRepository.findCustomerAccountByMobileNumber(mobileNumber(7))).isPresent();
+        assertThat(customerRepository.findRegisteredMobileNumbers(List.of(mobileNumber(1), mobileNumber(2), "9999999999")))
+                .hasSize(2);
+        Accounts accounts = accountsRepository.findByCustomerId(customer.getCustomerId()).orElseThrow();
+        accountsRepository.markCommunicationSent(List.of(accounts.getAccountNumber()), LocalDate.now(), "ACCOUNTS_MS");
+        assertThat(outboxEventRepository.findClaimable(Instant.now(), PageRequest.of(0, 10))).hasSize(10);
+        accountsRepository.deleteByCustomerId(customer.getCustomerId());
+        entityManager.flush();
+
+        Map<String, Long> after = tableScans();
+        assertThat(after.entrySet())
+                .filteredOn(scan -> scan.getValue() > before.getOrDefault(scan.getKey(), 0L))
+                .as("statements that read a table without an index")
+                .isEmpty();
+    }
+
+    /**
+     * Statement digests of this schema with the number of times each ran without a
+     * usable index.
+     */
+    private Map<String, Long> tableScans() {
+        Map<String, Long> scans = new HashMap<>();
+        jdbcTemplate.query("SELECT DIGEST_TEXT, SUM_NO_INDEX_USED + SUM_NO_GOOD_INDEX_USED "
+                        + "FROM performance_schema.events_statements_summary_by_digest "
+                        + "WHERE SCHEMA_NAME = DATABASE() AND DIGEST_TEXT NOT LIKE '%performance_schema%'",
+                (RowCallbackHandler) row -> scans.put(row.getString(1), row.getLong(2)));
+        return scans;
+    }
+
+    private static String mobileNumber(int customer) {
+        return String.format("9%09d", customer);
+    }
+}
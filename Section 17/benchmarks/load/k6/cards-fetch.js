@@ -0,0 +1,48 @@
+// Open model load on cards GET /api/fetch: RATE requests per second, whatever the
+// latency, so a service that falls behind shows it in p99 and failures instead of
+// quietly slowing the load down.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:9000';
+const CUSTOMERS = parseInt(__ENV.CUSTOMERS || '1000');
+const RATE = parseInt(__ENV.RATE || '500');
+const DURATION = __ENV.DURATION || '2m';
+const P99_MS = parseInt(__ENV.P99_MS || '100');
+
+export const options = {
+    setupTimeout: '5m',
+    scenarios: {
+        fetch: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.max(50, RATE / 10),
+            maxVUs: Math.max(500, RATE),
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: [`p(99)<${P99_MS}`],
+    },
+};
+
+function mobileNumber(i) {
+    return String(9000000000 + i);
+}
+
+// creating a card that already exists is a 400, so reruns against the same database are fine
+export function setup() {
+    for (let i = 0; i < CUSTOMERS; i++) {
+        http.post(`${BASE_URL}/api/create?mobileNumber=${mobileNumber(i)}`, null, { tags: { name: 'setup' } });
+    }
+}
+
+export default function () {
+    const res = http.get(`${BASE_URL}/api/fetch?mobileNumber=${mobileNumber(Math.floor(Math.random() * CUSTOMERS))}`, {
+        headers: { 'eazybank-correlation-id': `load-${__VU}-${__ITER}` },
+        tags: { name: 'fetch' },
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
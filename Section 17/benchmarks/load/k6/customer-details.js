@@ -0,0 +1,63 @@
+// Closed model load on accounts GET /api/fetchCustomerDetails: CLIENTS concurrent
+// clients, each sending its next request as soon as the previous one is answered.
+// Every request blocks on two Feign calls, to loans and cards, which is where
+// platform and virtual threads differ.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const LOANS_URL = __ENV.LOANS_URL || 'http://localhost:8090';
+const CARDS_URL = __ENV.CARDS_URL || 'http://localhost:9000';
+const CUSTOMERS = parseInt(__ENV.CUSTOMERS || '1000');
+const CLIENTS = parseInt(__ENV.CLIENTS || '2000');
+const DURATION = __ENV.DURATION || '3m';
+const THINK_TIME = parseFloat(__ENV.THINK_TIME || '0');
+
+export const options = {
+    setupTimeout: '10m',
+    scenarios: {
+        clients: {
+            executor: 'constant-vus',
+            vus: CLIENTS,
+            duration: DURATION,
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+function mobileNumber(i) {
+    return String(9000000000 + i);
+}
+
+// existing customers, loans and cards are a 400, so reruns against the same databases are fine
+export function setup() {
+    const json = { headers: { 'Content-Type': 'application/json' }, tags: { name: 'setup' } };
+    for (let i = 0; i < CUSTOMERS; i++) {
+        const number = mobileNumber(i);
+        http.post(`${BASE_URL}/api/create`, JSON.stringify({
+            name: `Customer ${i}`,
+            email: `customer${i}@eazybank.com`,
+            mobileNumber: number,
+        }), json);
+        http.post(`${LOANS_URL}/api/create?mobileNumber=${number}`, null, { tags: { name: 'setup' } });
+        http.post(`${CARDS_URL}/api/create?mobileNumber=${number}`, null, { tags: { name: 'setup' } });
+    }
+}
+
+export default function () {
+    const number = mobileNumber(Math.floor(Math.random() * CUSTOMERS));
+    const res = http.get(`${BASE_URL}/api/fetchCustomerDetails?mobileNumber=${number}`, {
+        headers: { 'eazybank-correlation-id': `load-${__VU}-${__ITER}` },
+        tags: { name: 'fetchCustomerDetails' },
+        timeout: '10s',
+    });
+    check(res, {
+        'status is 200': (r) => r.status === 200,
+        'has loans and cards': (r) => r.status === 200 && r.json('loansDto') !== null && r.json('cardsDto') !== null,
+    });
+    if (THINK_TIME > 0) {
+        sleep(THINK_TIME);
+    }
+}
@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+# Runs one k6 scenario against a service and records what it cost the service.
+#
+#   ./run-load.sh <k6 script> <label> [k6 options]
+#
+# While k6 runs, the service's actuator is sampled every SAMPLE_INTERVAL seconds for
+# heap used, live threads and process CPU. Results go to results/<label>.json (the k6
+# summary) and results/<label>.csv (the samples), and a one-line report is printed.
+#
+# Environment:
+#   BASE_URL         service under load, passed on to the script (default http://localhost:9000)
+#   ACTUATOR_URL     actuator of that service (default $BASE_URL/actuator)
+#   CPUS             cores the service is limited to, for requests per second per core
+#   SAMPLE_INTERVAL  seconds between actuator samples (default 2)
+#   RESULTS          output directory (default results)
+#
+# Any other k6 variable (RATE, CLIENTS, DURATION, ...) is passed with -e, e.g.
+#   ./run-load.sh k6/cards-fetch.js cards-jpa-1000 -e RATE=1000
+set -euo pipefail
+
+if [[ $# -lt 2 ]]; then
+    sed -n '2,19p' "$0"
+    exit 1
+fi
+
+script=$1
+label=$2
+shift 2
+
+BASE_URL=${BASE_URL:-http://localhost:9000}
+ACTUATOR_URL=${ACTUATOR_URL:-$BASE_URL/actuator}
+SAMPLE_INTERVAL=${SAMPLE_INTERVAL:-2}
+RESULTS=${RESULTS:-results}
+mkdir -p "$RESULTS"
+
+metric() {
+    curl -fsS "$ACTUATOR_URL/metrics/$1" | jq -r '.measurements[] | select(.statistic == "VALUE").value'
+}
+
+CPUS=${CPUS:-$(metric system.cpu.count)}
+
+sample() {
+    echo "time,heap_used_bytes,live_threads,process_cpu_usage"
+    while true; do
+        echo "$(date +%s),$(metric 'jvm.memory.used?tag=area:heap'),$(metric jvm.threads.live),$(metric process.cpu.usage)"
+        sleep "$SAMPLE_INTERVAL"
+    done
+}
+
+metric jvm.threads.live > /dev/null || { echo "No actuator metrics at $ACTUATOR_URL" >&2; exit 1; }
+
+sample > "$RESULTS/$label.csv" &
+sampler=$!
+trap 'kill $sampler 2> /dev/null || true' EXIT
+
+status=0
+k6 run --summary-export "$RESULTS/$label.json" --summary-trend-stats "avg,p(50),p(95),p(99),max" \
+    -e BASE_URL="$BASE_URL" "$@" "$script" || status=$?
+
+kill $sampler 2> /dev/null || true
+wait $sampler 2> /dev/null || true
+
+jq -r --arg name "$label" --arg cpus "$CPUS" '
+    .metrics as $m
+    | "\($name): \($m.http_reqs.rate | floor) req/s, \($m.http_reqs.rate / ($cpus | tonumber) | floor) req/s per core (\($cpus) cores), "
+      + "p99 \($m.http_req_duration["p(99)"] | floor) ms, failed \($m.http_req_failed.value * 100 | . * 100 | round / 100)%"' \
+    "$RESULTS/$label.json"
+awk -F, 'NR > 1 && $2 > heap { heap = $2 } NR > 1 && $3 > threads { threads = $3 }
+    END { printf "  peak heap used %.0f MiB, peak live threads %d\n", heap / 1048576, threads }' "$RESULTS/$label.csv"
+
+# k6 exits with 99 when a threshold failed: the rate was more than the service could take
+exit $status
@@ -0,0 +1,55 @@
+package com.eazybytes.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code target/benchmarks.jar}. Takes the regular JMH command line; unless
+ * it says otherwise, the GC profiler is added so every benchmark also reports the bytes
+ * it allocates per operation ({@code gc.alloc.rate.norm}), and the results are written
+ * to {@code jmh-result.json} so runs of two commits can be compared.
+ * <p>
+ * The services and the gateway are used as plain jars, so install them before packaging
+ * this module:
+ * <pre>
+ * mvn -f ../accounts install -DskipTests
+ * mvn -f ../cards install -DskipTests
+ * mvn -f ../loans install -DskipTests
+ * mvn -f ../gatewayserver install -DskipTests
+ * mvn package
+ * java -jar target/benchmarks.jar [regexp] [JMH options]
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result("jmh-result.json");
+        }
+        Runner runner = new Runner(options.build());
+        if (commandLine.shouldList()) {
+            runner.list();
+            return;
+        }
+        runner.run();
+    }
+}
@@ -0,0 +1,110 @@
+package com.eazybytes.benchmarks;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.CardsDto;
+import com.eazybytes.accounts.dto.CustomerAccountDto;
+import com.eazybytes.accounts.dto.CustomerDetailsDto;
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.dto.LoansDto;
+import com.eazybytes.accounts.entity.Accounts;
+import com.eazybytes.cards.entity.Cards;
+import com.eazybytes.loans.entity.Loans;
+
+/**
+ * The same sample customer for every benchmark, so results only change with the code.
+ */
+public final class Fixtures {
+
+    public static final String MOBILE_NUMBER = "4354437687";
+
+    private Fixtures() {
+    }
+
+    /**
+     * @return a distinct, valid mobile number for every index
+     */
+    public static String mobileNumber(int index) {
+        return String.format("9%09d", index);
+    }
+
+    public static CustomerAccountDto customerAccount() {
+        return new CustomerAccountDto("Madan Reddy", "tutor@eazybytes.com", MOBILE_NUMBER,
+                1_900_000_042L, "Savings", "123 Main Street, New York");
+    }
+
+    public static CustomerDto customer(String mobileNumber) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Madan Reddy");
+        customerDto.setEmail("tutor@eazybytes.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+
+    public static Accounts accounts() {
+        Accounts accounts = new Accounts();
+        accounts.setCustomerId(42L);
+        accounts.setAccountNumber(1_900_000_042L);
+        accounts.setAccountType("Savings");
+        accounts.setBranchAddress("123 Main Street, New York");
+        return accounts;
+    }
+
+    public static Cards cards() {
+        Cards cards = new Cards();
+        cards.setCardId(42L);
+        cards.setMobileNumber(MOBILE_NUMBER);
+        cards.setCardNumber("101000000042");
+        cards.setCardType("Credit Card");
+        cards.setTotalLimit(100_000);
+        cards.setAmountUsed(1_000);
+        cards.setAvailableAmount(99_000);
+        return cards;
+    }
+
+    public static Loans loans() {
+        Loans loans = new Loans();
+        loans.setLoanId(42L);
+        loans.setMobileNumber(MOBILE_NUMBER);
+        loans.setLoanNumber("101000000042");
+        loans.setLoanType("Home Loan");
+        loans.setTotalLoan(100_000);
+        loans.setAmountPaid(1_000);
+        loans.setOutstandingAmount(99_000);
+        return loans;
+    }
+
+    /**
+     * The aggregate accounts returns from {@code /api/fetchCustomerDetails}.
+     */
+    public static CustomerDetailsDto customerDetails() {
+        AccountsDto accountsDto = new AccountsDto();
+        accountsDto.setAccountNumber(1_900_000_042L);
+        accountsDto.setAccountType("Savings");
+        accountsDto.setBranchAddress("123 Main Street, New York");
+
+        CardsDto cardsDto = new CardsDto();
+        cardsDto.setMobileNumber(MOBILE_NUMBER);
+        cardsDto.setCardNumber("101000000042");
+        cardsDto.setCardType("Credit Card");
+        cardsDto.setTotalLimit(100_000);
+        cardsDto.setAmountUsed(1_000);
+        cardsDto.setAvailableAmount(99_000);
+
+        LoansDto loansDto = new LoansDto();
+        loansDto.setMobileNumber(MOBILE_NUMBER);
+        loansDto.setLoanNumber("101000000042");
+        loansDto.setLoanType("Home Loan");
+        loansDto.setTotalLoan(100_000);
+        loansDto.setAmountPaid(1_000);
+        loansDto.setOutstandingAmount(99_000);
+
+        CustomerDetailsDto customerDetailsDto = new CustomerDetailsDto();
+        customerDetailsDto.setName("Madan Reddy");
+        customerDetailsDto.setEmail("tutor@eazybytes.com");
+        customerDetailsDto.setMobileNumber(MOBILE_NUMBER);
+        customerDetailsDto.setAccountsDto(accountsDto);
+        customerDetailsDto.setCardsDto(cardsDto);
+        customerDetailsDto.setLoansDto(loansDto);
+        return customerDetailsDto;
+    }
+}
@@ -0,0 +1,31 @@
+package com.eazybytes.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+
+public final class ServiceContexts {
+
+    private ServiceContexts() {
+    }
+
+    /**
+     * Starts the persistence layer of a service on its own in-memory H2 database in MySQL
+     * mode, migrated with the service's Flyway scripts.
+     * @param service - Name of the service, used for the database and migrations location
+     * @param configuration - Configuration class with the beans under test
+     * @param properties - Additional properties in key=value form, e.g. benchmark parameters
+     */
+    public static ConfigurableApplicationContext start(String service, Class<?> configuration, String... properties) {
+        return new SpringApplicationBuilder(configuration)
+                .web(WebApplicationType.NONE)
+                .properties(Map.of(
+                        "spring.config.name", "benchmarks",
+                        "spring.datasource.url", "jdbc:h2:mem:" + service + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.flyway.locations", "classpath:migrations/" + service))
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,144 @@
+package com.eazybytes.benchmarks.gateway;
+
+import com.eazybytes.gatewayserver.filters.CorrelationIdFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Correlation id handling of one request, from reading the header to the headers sent
+ * to the backend and the committed response: {@link CorrelationIdFilter} against the
+ * RequestTraceFilter and ResponseTraceFilter it replaced, reproduced below as they
+ * were. {@code headerPresent} is whether the client sent an id or one is generated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CorrelationIdBenchmark {
+
+    private static final String PROXIED_HEADERS_ATTR = CorrelationIdBenchmark.class.getName() + ".proxiedHeaders";
+
+    @Param({"true", "false"})
+    private boolean headerPresent;
+
+    private GatewayFilterChain traceFilters;
+    private GatewayFilterChain correlationIdFilter;
+
+    @Setup
+    public void setup() {
+        traceFilters = FilterChains.of(proxy(List.of()),
+                new RequestTraceFilter(), new ResponseTraceFilter());
+        CorrelationIdFilter filter = new CorrelationIdFilter();
+        correlationIdFilter = FilterChains.of(proxy(List.of(filter)), filter::filter);
+    }
+
+    /**
+     * Stands in for NettyRoutingFilter, which applies the header filters to the request
+     * headers it sends.
+     */
+    private static Function<ServerWebExchange, Mono<Void>> proxy(List<HttpHeadersFilter> headersFilters) {
+        return exchange -> {
+            exchange.getAttributes().put(PROXIED_HEADERS_ATTR, HttpHeadersFilter.filterRequest(headersFilters, exchange));
+            return Mono.empty();
+        };
+    }
+
+    @Benchmark
+    public void traceFilters(Blackhole blackhole) {
+        handle(traceFilters, blackhole);
+    }
+
+    @Benchmark
+    public void correlationIdFilter(Blackhole blackhole) {
+        handle(correlationIdFilter, blackhole);
+    }
+
+    private void handle(GatewayFilterChain chain, Blackhole blackhole) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/eazybank/cards/api/fetch");
+        if (headerPresent) {
+            request.header(CorrelationIdFilter.CORRELATION_ID, "9f0b7c1e-3d2a-4e5f-8a6b-1c2d3e4f5a6b");
+        }
+        ServerWebExchange exchange = Exchanges.of(request);
+        chain.filter(exchange).then(exchange.getResponse().setComplete()).block();
+        HttpHeaders proxied = exchange.getAttribute(PROXIED_HEADERS_ATTR);
+        blackhole.consume(proxied.getFirst(CorrelationIdFilter.CORRELATION_ID));
+        blackhole.consume(exchange.getResponse().getHeaders().getFirst(CorrelationIdFilter.CORRELATION_ID));
+    }
+
+    /**
+     * RequestTraceFilter and FilterUtility before CorrelationIdFilter replaced them.
+     */
+    static class RequestTraceFilter implements GatewayFilter {
+
+        private static final Logger logger = LoggerFactory.getLogger(RequestTraceFilter.class);
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+            HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+            if (getCorrelationId(requestHeaders) != null) {
+                logger.debug("eazyBank-correlation-id found in RequestTraceFilter : {}",
+                        getCorrelationId(requestHeaders));
+            } else {
+                String correlationId = UUID.randomUUID().toString();
+                exchange = exchange.mutate().request(exchange.getRequest().mutate()
+                        .header(CorrelationIdFilter.CORRELATION_ID, correlationId).build()).build();
+                logger.debug("eazyBank-correlation-id generated in RequestTraceFilter : {}", correlationId);
+            }
+            return chain.filter(exchange);
+        }
+    }
+
+    /**
+     * The post filter ResponseTraceFilter declared, before CorrelationIdFilter replaced it.
+     */
+    static class ResponseTraceFilter implements GatewayFilter {
+
+        private static final Logger logger = LoggerFactory.getLogger(ResponseTraceFilter.class);
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+                HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+                String correlationId = getCorrelationId(requestHeaders);
+                if (!(exchange.getResponse().getHeaders().containsKey(CorrelationIdFilter.CORRELATION_ID))) {
+                    logger.debug("Updated the correlation id to the outbound headers: {}", correlationId);
+                    exchange.getResponse().getHeaders().add(CorrelationIdFilter.CORRELATION_ID, correlationId);
+                }
+            }));
+        }
+    }
+
+    private static String getCorrelationId(HttpHeaders requestHeaders) {
+        if (requestHeaders.get(CorrelationIdFilter.CORRELATION_ID) != null) {
+            List<String> requestHeaderList = requestHeaders.get(CorrelationIdFilter.CORRELATION_ID);
+            return requestHeaderList.stream().findFirst().get();
+        }
+        return null;
+    }
+}
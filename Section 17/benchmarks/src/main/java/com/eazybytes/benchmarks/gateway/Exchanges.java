@@ -0,0 +1,30 @@
+package com.eazybytes.benchmarks.gateway;
+
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+
+/**
+ * Exchanges as the gateway's HTTP handler creates them, sharing the codecs and
+ * session manager between requests. MockServerWebExchange configures new codecs for
+ * every exchange, which costs more than the filters being measured.
+ */
+final class Exchanges {
+
+    private static final ServerCodecConfigurer CODECS = ServerCodecConfigurer.create();
+
+    private static final DefaultWebSessionManager SESSIONS = new DefaultWebSessionManager();
+
+    private static final AcceptHeaderLocaleContextResolver LOCALES = new AcceptHeaderLocaleContextResolver();
+
+    private Exchanges() {
+    }
+
+    static ServerWebExchange of(MockServerHttpRequest.BaseBuilder<?> request) {
+        return new DefaultServerWebExchange(request.build(), new MockServerHttpResponse(), SESSIONS, CODECS, LOCALES);
+    }
+}
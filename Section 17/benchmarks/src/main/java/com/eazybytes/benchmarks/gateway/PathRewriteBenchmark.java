@@ -0,0 +1,91 @@
+package com.eazybytes.benchmarks.gateway;
+
+import com.eazybytes.gatewayserver.filters.PathPrefixRewriteFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.filter.factory.RewritePathGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * Resolving the backend URL of an accounts request: the regex rewritePath the routes
+ * used to have, followed by {@link RouteToRequestUrlFilter}, against
+ * {@link RouteToRequestUrlFilter} followed by {@link PathPrefixRewriteFilter}. Both
+ * include building the exchange; {@code exchange} measures that alone, to be
+ * subtracted from the other two.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PathRewriteBenchmark {
+
+    private static final String PATH = "/eazybank/accounts/api/fetch?mobileNumber=4354437687";
+
+    private Route route;
+    private GatewayFilterChain rewritePath;
+    private GatewayFilterChain prefixRewrite;
+
+    @Setup
+    public void setup() {
+        route = Route.async()
+                .id("accounts")
+                .uri("http://accounts:8080")
+                .predicate(exchange -> true)
+                .build();
+        RouteToRequestUrlFilter routeToRequestUrl = new RouteToRequestUrlFilter();
+        rewritePath = FilterChains.of(exchange -> Mono.empty(),
+                new RewritePathGatewayFilterFactory().apply(new RewritePathGatewayFilterFactory.Config()
+                        .setRegexp("/eazybank/accounts/(?<segment>.*)").setReplacement("/${segment}")),
+                routeToRequestUrl::filter);
+        prefixRewrite = FilterChains.of(exchange -> Mono.empty(),
+                routeToRequestUrl::filter, new PathPrefixRewriteFilter("/eazybank/accounts"));
+    }
+
+    @Benchmark
+    public ServerWebExchange exchange() {
+        return newExchange();
+    }
+
+    @Benchmark
+    public URI rewritePath() {
+        return resolve(rewritePath);
+    }
+
+    @Benchmark
+    public URI prefixRewrite() {
+        return resolve(prefixRewrite);
+    }
+
+    private URI resolve(GatewayFilterChain chain) {
+        ServerWebExchange exchange = newExchange();
+        chain.filter(exchange).block();
+        return exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+    }
+
+    private ServerWebExchange newExchange() {
+        ServerWebExchange exchange = Exchanges.of(MockServerHttpRequest.get(PATH));
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+}
@@ -0,0 +1,169 @@
+package com.eazybytes.benchmarks.gateway;
+
+import com.eazybytes.gatewayserver.ratelimit.HybridRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiting decisions for one key by four threads: the gateway's
+ * {@link RedisRateLimiter}, one Redis call per request, against
+ * {@link HybridRateLimiter} serving leased tokens from its local bucket.
+ * <p>
+ * There is no Redis here. Both limiters run the token bucket of the
+ * request_rate_limiter script against an in-memory stand-in that answers after
+ * {@code redisLatencyMicros}, so the numbers show what the Redis round trips cost
+ * rather than what a particular Redis does. The stand-in counts the scripts each
+ * thread ran, reported as the {@code redisCalls} secondary result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final String ROUTE_ID = "cards";
+
+    private static final String KEY = "anonymous";
+
+    @Param({"0", "200"})
+    private long redisLatencyMicros;
+
+    private InMemoryRedisTemplate redisTemplate;
+    private RedisRateLimiter redisRateLimiter;
+    private HybridRateLimiter hybridRateLimiter;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        redisTemplate = new InMemoryRedisTemplate(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(redisLatencyMicros)));
+        RedisScript<List<Long>> script = RedisScript.of("request_rate_limiter", (Class<List<Long>>) (Class<?>) List.class);
+        ConfigurationService configurationService = new ConfigurationService(new StaticListableBeanFactory(),
+                DefaultConversionService::getSharedInstance, () -> null);
+
+        // a limit the benchmark never reaches, so both measure allowed requests
+        redisRateLimiter = new RedisRateLimiter(redisTemplate, script, configurationService);
+        redisRateLimiter.getConfig().put(ROUTE_ID, new RedisRateLimiter.Config()
+                .setReplenishRate(10_000_000).setBurstCapacity(20_000_000));
+        hybridRateLimiter = new HybridRateLimiter(redisTemplate, script, configurationService,
+                new SimpleMeterRegistry(), new HybridRateLimiter.Config()
+                .setReplenishRate(10_000_000).setBurstCapacity(20_000_000).setLeaseSize(100));
+    }
+
+    @Benchmark
+    public RateLimiter.Response redis(RedisCalls redisCalls) {
+        RateLimiter.Response response = redisRateLimiter.isAllowed(ROUTE_ID, KEY).block();
+        redisCalls.redisCalls += redisTemplate.takeCalls();
+        return response;
+    }
+
+    @Benchmark
+    public RateLimiter.Response hybrid(RedisCalls redisCalls) {
+        RateLimiter.Response response = hybridRateLimiter.isAllowed(ROUTE_ID, KEY).block();
+        redisCalls.redisCalls += redisTemplate.takeCalls();
+        return response;
+    }
+
+    /**
+     * Redis calls per thread, written to the results next to the time per decision.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RedisCalls {
+
+        public long redisCalls;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            redisCalls = 0;
+        }
+    }
+
+    /**
+     * The token bucket of request_rate_limiter.lua, in memory. Arguments are the
+     * script's: replenish rate, burst capacity, an unused timestamp and the requested
+     * tokens; the result is {@code [allowed, tokens left]}.
+     */
+    static class InMemoryRedisTemplate extends ReactiveStringRedisTemplate {
+
+        private final Duration latency;
+        private final Map<String, long[]> buckets = new ConcurrentHashMap<>();
+        // the limiters call execute on the thread asking for a decision
+        private final ThreadLocal<long[]> calls = ThreadLocal.withInitial(() -> new long[1]);
+
+        InMemoryRedisTemplate(Duration latency) {
+            // never started, the template only needs a factory to be constructed
+            super(new LettuceConnectionFactory());
+            this.latency = latency;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Flux<T> execute(RedisScript<T> script, List<String> keys, List<?> args) {
+            calls.get()[0]++;
+            Mono<List<Long>> result = Mono.fromSupplier(() -> run(keys.get(0),
+                    Long.parseLong(args.get(0).toString()), Long.parseLong(args.get(1).toString()),
+                    Long.parseLong(args.get(3).toString())));
+            if (!latency.isZero()) {
+                result = Mono.delay(latency).then(result);
+            }
+            return (Flux<T>) result.flux();
+        }
+
+        /**
+         * @return scripts the current thread ran since the last call
+         */
+        long takeCalls() {
+            long[] count = calls.get();
+            long taken = count[0];
+            count[0] = 0;
+            return taken;
+        }
+
+        private List<Long> run(String key, long rate, long capacity, long requested) {
+            long now = System.nanoTime();
+            long[] bucket = buckets.computeIfAbsent(key, k -> new long[]{capacity, now});
+            synchronized (bucket) {
+                long refilled = (now - bucket[1]) * rate / TimeUnit.SECONDS.toNanos(1);
+                long tokens = Math.min(capacity, bucket[0] + refilled);
+                if (refilled > 0) {
+                    bucket[1] = now;
+                }
+                boolean allowed = tokens >= requested;
+                bucket[0] = allowed ? tokens - requested : tokens;
+                return List.of(allowed ? 1L : 0L, bucket[0]);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.eazybytes.benchmarks.generator;
+
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.generator.NumberGenerator;
+import com.eazybytes.accounts.generator.SequenceBlockNumberGenerator;
+import com.eazybytes.benchmarks.ServiceContexts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Account numbers per second handed out to 64 concurrent creators: the random numbers
+ * the services used to draw, against {@link SequenceBlockNumberGenerator} reserving
+ * blocks of {@code blockSize} from number_sequence. A block size of 1 is one database
+ * round trip per number, as a plain sequence table would be.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(64)
+public class NumberGeneratorBenchmark {
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class, FlywayAutoConfiguration.class})
+    static class NumberGeneratorConfig {
+    }
+
+    @State(Scope.Benchmark)
+    public static class SequenceBlock {
+
+        @Param({"1", "100"})
+        private int blockSize;
+
+        private ConfigurableApplicationContext context;
+        private NumberGenerator generator;
+
+        @Setup
+        public void setup() {
+            context = ServiceContexts.start("accounts", NumberGeneratorConfig.class);
+            generator = new SequenceBlockNumberGenerator(AccountsConstants.ACCOUNT_NUMBER_SEQUENCE, blockSize,
+                    AccountsConstants.MAX_ACCOUNT_NUMBER, context.getBean(JdbcTemplate.class),
+                    context.getBean(PlatformTransactionManager.class));
+        }
+
+        @TearDown
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public long random() {
+        // what createNewAccount did before the generator
+        return 1000000000L + new Random().nextInt(900000000);
+    }
+
+    @Benchmark
+    public long sequenceBlock(SequenceBlock sequenceBlock) {
+        return sequenceBlock.generator.nextNumber();
+    }
+}
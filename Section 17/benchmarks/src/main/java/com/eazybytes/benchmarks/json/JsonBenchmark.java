@@ -0,0 +1,88 @@
+package com.eazybytes.benchmarks.json;
+
+import com.eazybytes.accounts.dto.CustomerDetailsDto;
+import com.eazybytes.accounts.dto.ErrorResponseDto;
+import com.eazybytes.accounts.dto.ResponseDto;
+import com.eazybytes.benchmarks.Fixtures;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson on the bodies accounts writes and reads most: the customer details aggregate,
+ * and the response and error envelopes. The mapper is configured as Spring Boot's.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    private ObjectWriter customerDetailsWriter;
+    private ObjectReader customerDetailsReader;
+    private ObjectWriter responseWriter;
+    private ObjectWriter errorResponseWriter;
+
+    private CustomerDetailsDto customerDetails;
+    private byte[] customerDetailsJson;
+    private ResponseDto response;
+    private ErrorResponseDto errorResponse;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .build();
+        customerDetailsWriter = objectMapper.writerFor(CustomerDetailsDto.class);
+        customerDetailsReader = objectMapper.readerFor(CustomerDetailsDto.class);
+        responseWriter = objectMapper.writerFor(ResponseDto.class);
+        errorResponseWriter = objectMapper.writerFor(ErrorResponseDto.class);
+
+        customerDetails = Fixtures.customerDetails();
+        customerDetailsJson = customerDetailsWriter.writeValueAsBytes(customerDetails);
+        response = new ResponseDto("201", "Account created successfully");
+        errorResponse = new ErrorResponseDto("uri=/api/fetch", HttpStatus.NOT_FOUND,
+                "Customer not found with the given input data mobileNumber : '" + Fixtures.MOBILE_NUMBER + "'",
+                LocalDateTime.of(2024, 6, 15, 14, 30));
+    }
+
+    @Benchmark
+    public byte[] writeCustomerDetails() throws IOException {
+        return customerDetailsWriter.writeValueAsBytes(customerDetails);
+    }
+
+    @Benchmark
+    public CustomerDetailsDto readCustomerDetails() throws IOException {
+        return customerDetailsReader.readValue(customerDetailsJson);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeErrorResponse() throws IOException {
+        return errorResponseWriter.writeValueAsBytes(errorResponse);
+    }
+}
@@ -0,0 +1,77 @@
+package com.eazybytes.benchmarks.mapper;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.CustomerAccountDto;
+import com.eazybytes.accounts.dto.CustomerDetailsDto;
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.entity.Accounts;
+import com.eazybytes.accounts.entity.Customer;
+import com.eazybytes.accounts.mapper.AccountsMapper;
+import com.eazybytes.accounts.mapper.CustomerMapper;
+import com.eazybytes.benchmarks.Fixtures;
+import com.eazybytes.cards.dto.CardsDto;
+import com.eazybytes.cards.entity.Cards;
+import com.eazybytes.cards.mapper.CardsMapper;
+import com.eazybytes.loans.dto.LoansDto;
+import com.eazybytes.loans.entity.Loans;
+import com.eazybytes.loans.mapper.LoansMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The entity and DTO mappers on the read paths of the services. Each call creates the
+ * target DTO, as the services do, so the GC profiler shows what one mapping allocates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final CustomerAccountDto customerAccount = Fixtures.customerAccount();
+    private final CustomerDto customer = Fixtures.customer(Fixtures.MOBILE_NUMBER);
+    private final Accounts accounts = Fixtures.accounts();
+    private final Cards cards = Fixtures.cards();
+    private final Loans loans = Fixtures.loans();
+
+    @Benchmark
+    public CustomerDto customerAccountToCustomerDto() {
+        return CustomerMapper.mapToCustomerDto(customerAccount, new CustomerDto());
+    }
+
+    @Benchmark
+    public CustomerDetailsDto customerDtoToCustomerDetailsDto() {
+        return CustomerMapper.mapToCustomerDetailsDto(customer, new CustomerDetailsDto());
+    }
+
+    @Benchmark
+    public Customer customerDtoToCustomer() {
+        return CustomerMapper.mapToCustomer(customer, new Customer());
+    }
+
+    @Benchmark
+    public AccountsDto accountsToAccountsDto() {
+        return AccountsMapper.mapToAccountsDto(accounts, new AccountsDto());
+    }
+
+    @Benchmark
+    public CardsDto cardsToCardsDto() {
+        return CardsMapper.mapToCardsDto(cards, new CardsDto());
+    }
+
+    @Benchmark
+    public LoansDto loansToLoansDto() {
+        return LoansMapper.mapToLoansDto(loans, new LoansDto());
+    }
+}
@@ -0,0 +1,92 @@
+package com.eazybytes.benchmarks.service;
+
+import com.eazybytes.accounts.AccountsApplication;
+import com.eazybytes.accounts.audit.AuditAwareImpl;
+import com.eazybytes.accounts.config.NumberGeneratorConfig;
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.generator.NumberGenerator;
+import com.eazybytes.accounts.outbox.OutboxWriter;
+import com.eazybytes.accounts.repository.AccountsRepository;
+import com.eazybytes.accounts.repository.CustomerRepository;
+import com.eazybytes.accounts.service.IAccountsService;
+import com.eazybytes.accounts.service.impl.AccountsServiceImpl;
+import com.eazybytes.benchmarks.Fixtures;
+import com.eazybytes.benchmarks.JpaBenchmarkConfig;
+import com.eazybytes.benchmarks.ServiceContexts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AccountsServiceImpl} on its repositories and an in-memory database holding
+ * {@value #CUSTOMERS} customers. Caching is not enabled here, so every fetch runs the
+ * customer and account query instead of returning the cached DTO.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AccountsServiceBenchmark {
+
+    private static final int CUSTOMERS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private IAccountsService accountsService;
+    private int next;
+
+    @Configuration(proxyBeanMethods = false)
+    @AutoConfigurationPackage(basePackageClasses = AccountsApplication.class)
+    @EnableJpaAuditing(auditorAwareRef = "auditAwareImpl")
+    @Import({JpaBenchmarkConfig.class, AuditAwareImpl.class, NumberGeneratorConfig.class, OutboxWriter.class})
+    static class AccountsServiceConfig {
+
+        @Bean
+        public AccountsServiceImpl accountsService(AccountsRepository accountsRepository,
+                                                   CustomerRepository customerRepository, OutboxWriter outboxWriter,
+                                                   NumberGenerator accountNumberGenerator,
+                                                   AuditorAware<String> auditAwareImpl) {
+            // the cache invalidator is only used by update and delete, which are not measured
+            return new AccountsServiceImpl(accountsRepository, customerRepository, outboxWriter, null,
+                    accountNumberGenerator, auditAwareImpl);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        context = ServiceContexts.start("accounts", AccountsServiceConfig.class);
+        accountsService = context.getBean(IAccountsService.class);
+        for (int i = 0; i < CUSTOMERS; i++) {
+            accountsService.createAccount(Fixtures.customer(Fixtures.mobileNumber(i)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CustomerDto fetchAccounts() {
+        next = (next + 1) % CUSTOMERS;
+        return accountsService.fetchAccounts(Fixtures.mobileNumber(next));
+    }
+}
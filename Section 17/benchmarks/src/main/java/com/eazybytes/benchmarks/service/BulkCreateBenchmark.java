@@ -0,0 +1,94 @@
+package com.eazybytes.benchmarks.service;
+
+import com.eazybytes.accounts.AccountsApplication;
+import com.eazybytes.accounts.audit.AuditAwareImpl;
+import com.eazybytes.accounts.config.NumberGeneratorConfig;
+import com.eazybytes.accounts.dto.BulkCreateResultDto;
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.outbox.OutboxWriter;
+import com.eazybytes.accounts.service.IBulkAccountsService;
+import com.eazybytes.accounts.service.impl.BulkAccountsServiceImpl;
+import com.eazybytes.benchmarks.Fixtures;
+import com.eazybytes.benchmarks.JpaBenchmarkConfig;
+import com.eazybytes.benchmarks.ServiceContexts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BulkAccountsServiceImpl} onboarding {@value #CHUNK} new customers per call, with
+ * Hibernate's JDBC batching off ({@code batchSize} 1) and on (50, the services' setting).
+ * H2 runs in-process, so this only shows the driver and Hibernate side of batching; the
+ * saved round trips make the gap larger against MySQL over a network.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+@OperationsPerInvocation(BulkCreateBenchmark.CHUNK)
+public class BulkCreateBenchmark {
+
+    static final int CHUNK = 500;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private IBulkAccountsService bulkAccountsService;
+    private int next;
+
+    @Configuration(proxyBeanMethods = false)
+    @AutoConfigurationPackage(basePackageClasses = AccountsApplication.class)
+    @EnableJpaAuditing(auditorAwareRef = "auditAwareImpl")
+    @ImportAutoConfiguration(ValidationAutoConfiguration.class)
+    @Import({JpaBenchmarkConfig.class, AuditAwareImpl.class, NumberGeneratorConfig.class, OutboxWriter.class,
+            BulkAccountsServiceImpl.class})
+    static class BulkCreateConfig {
+    }
+
+    @Setup
+    public void setup() {
+        context = ServiceContexts.start("accounts", BulkCreateConfig.class,
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "bulk-create.chunk-size=" + CHUNK);
+        bulkAccountsService = context.getBean(IBulkAccountsService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void createAccounts(Blackhole blackhole) {
+        List<CustomerDto> customers = new ArrayList<>(CHUNK);
+        for (int i = 0; i < CHUNK; i++) {
+            customers.add(Fixtures.customer(Fixtures.mobileNumber(next++)));
+        }
+        bulkAccountsService.createAccounts(customers.iterator(), (BulkCreateResultDto result) -> blackhole.consume(result));
+    }
+}
@@ -0,0 +1,81 @@
+package com.eazybytes.benchmarks.service;
+
+import com.eazybytes.benchmarks.Fixtures;
+import com.eazybytes.benchmarks.JpaBenchmarkConfig;
+import com.eazybytes.benchmarks.ServiceContexts;
+import com.eazybytes.cards.CardsApplication;
+import com.eazybytes.cards.audit.AuditAwareImpl;
+import com.eazybytes.cards.config.JpaConfig;
+import com.eazybytes.cards.config.NumberGeneratorConfig;
+import com.eazybytes.cards.dto.CardsDto;
+import com.eazybytes.cards.service.ICardsService;
+import com.eazybytes.cards.service.impl.CardsServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CardsServiceImpl} on its repository, the card number generator and an
+ * in-memory database holding {@value #CARDS} cards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CardsServiceBenchmark {
+
+    private static final int CARDS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private ICardsService cardsService;
+    private int next;
+
+    @Configuration(proxyBeanMethods = false)
+    @AutoConfigurationPackage(basePackageClasses = CardsApplication.class)
+    @Import({JpaBenchmarkConfig.class, JpaConfig.class, AuditAwareImpl.class, NumberGeneratorConfig.class,
+            CardsServiceImpl.class})
+    static class CardsServiceConfig {
+    }
+
+    @Setup
+    public void setup() {
+        context = ServiceContexts.start("cards", CardsServiceConfig.class);
+        cardsService = context.getBean(ICardsService.class);
+        for (int i = 0; i < CARDS; i++) {
+            cardsService.createCard(Fixtures.mobileNumber(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CardsDto fetchCard() {
+        next = (next + 1) % CARDS;
+        return cardsService.fetchCard(Fixtures.mobileNumber(next));
+    }
+
+    @Benchmark
+    public boolean createAndDeleteCard() {
+        cardsService.createCard(Fixtures.MOBILE_NUMBER);
+        return cardsService.deleteCard(Fixtures.MOBILE_NUMBER);
+    }
+}
@@ -0,0 +1,81 @@
+package com.eazybytes.benchmarks.service;
+
+import com.eazybytes.benchmarks.Fixtures;
+import com.eazybytes.benchmarks.JpaBenchmarkConfig;
+import com.eazybytes.benchmarks.ServiceContexts;
+import com.eazybytes.loans.LoansApplication;
+import com.eazybytes.loans.audit.AuditAwareImpl;
+import com.eazybytes.loans.config.NumberGeneratorConfig;
+import com.eazybytes.loans.dto.LoansDto;
+import com.eazybytes.loans.service.ILoansService;
+import com.eazybytes.loans.service.impl.LoansServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LoansServiceImpl} on its repository, the loan number generator and an
+ * in-memory database holding {@value #LOANS} loans.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class LoansServiceBenchmark {
+
+    private static final int LOANS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private ILoansService loansService;
+    private int next;
+
+    @Configuration(proxyBeanMethods = false)
+    @AutoConfigurationPackage(basePackageClasses = LoansApplication.class)
+    @EnableJpaAuditing(auditorAwareRef = "auditAwareImpl")
+    @Import({JpaBenchmarkConfig.class, AuditAwareImpl.class, NumberGeneratorConfig.class, LoansServiceImpl.class})
+    static class LoansServiceConfig {
+    }
+
+    @Setup
+    public void setup() {
+        context = ServiceContexts.start("loans", LoansServiceConfig.class);
+        loansService = context.getBean(ILoansService.class);
+        for (int i = 0; i < LOANS; i++) {
+            loansService.createLoan(Fixtures.mobileNumber(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LoansDto fetchLoan() {
+        next = (next + 1) % LOANS;
+        return loansService.fetchLoan(Fixtures.mobileNumber(next));
+    }
+
+    @Benchmark
+    public boolean createAndDeleteLoan() {
+        loansService.createLoan(Fixtures.MOBILE_NUMBER);
+        return loansService.deleteLoan(Fixtures.MOBILE_NUMBER);
+    }
+}
@@ -0,0 +1,15 @@
+package com.eazybytes.cards.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * JPA auditing for the servlet variant. The reactive profile has no EntityManager and
+ * sets the audit columns itself.
+ */
+@Configuration
+@Profile("!reactive")
+@EnableJpaAuditing(auditorAwareRef = "auditAwareImpl")
+public class JpaConfig {
+}
@@ -0,0 +1,24 @@
+package com.eazybytes.cards.config;
+
+import com.eazybytes.cards.constants.CardsConstants;
+import com.eazybytes.cards.generator.NumberGenerator;
+import com.eazybytes.cards.generator.SequenceBlockNumberGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@Profile("!reactive")
+public class NumberGeneratorConfig {
+
+    @Bean
+    public NumberGenerator cardNumberGenerator(@Value("${number-generator.block-size:100}") int blockSize,
+                                               JdbcTemplate jdbcTemplate,
+                                               PlatformTransactionManager transactionManager) {
+        return new SequenceBlockNumberGenerator(CardsConstants.CARD_NUMBER_SEQUENCE, blockSize,
+                CardsConstants.MAX_CARD_NUMBER, jdbcTemplate, transactionManager);
+    }
+}
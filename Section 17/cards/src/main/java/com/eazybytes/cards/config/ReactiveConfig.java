@@ -0,0 +1,52 @@
+package com.eazybytes.cards.config;
+
+import com.eazybytes.cards.constants.CardsConstants;
+import com.eazybytes.cards.generator.ReactiveNumberGenerator;
+import com.eazybytes.cards.generator.ReactiveSequenceBlockNumberGenerator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.ReactorResourceFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+
+/**
+ * Beans of the reactive profile, which serves the cards API on WebFlux and R2DBC
+ * instead of Spring MVC and JPA.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    /**
+     * Tomcat is on the classpath for the servlet variant and would otherwise be picked
+     * for the reactive server as well.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(ObjectProvider<ReactorResourceFactory> resourceFactory) {
+        NettyReactiveWebServerFactory serverFactory = new NettyReactiveWebServerFactory();
+        resourceFactory.ifAvailable(serverFactory::setResourceFactory);
+        return serverFactory;
+    }
+
+    @Bean
+    public ReactiveNumberGenerator cardNumberGenerator(@Value("${number-generator.block-size:100}") int blockSize,
+                                                       DatabaseClient databaseClient,
+                                                       ReactiveTransactionManager transactionManager) {
+        return new ReactiveSequenceBlockNumberGenerator(CardsConstants.CARD_NUMBER_SEQUENCE, blockSize,
+                CardsConstants.MAX_CARD_NUMBER, databaseClient, transactionManager);
+    }
+
+    /**
+     * Hands out card ids from the row the JPA table generator of {@code Cards} uses.
+     */
+    @Bean
+    public ReactiveNumberGenerator cardIdGenerator(DatabaseClient databaseClient,
+                                                   ReactiveTransactionManager transactionManager) {
+        return new ReactiveSequenceBlockNumberGenerator(CardsConstants.CARD_ID_SEQUENCE, CardsConstants.CARD_ID_BLOCK_SIZE,
+                CardsConstants.MAX_CARD_ID, databaseClient, transactionManager);
+    }
+}
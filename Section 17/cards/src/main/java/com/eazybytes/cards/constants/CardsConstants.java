@@ -7,6 +7,11 @@ public final class CardsConstants {
     }
 
     public static final String  CREDIT_CARD = "Credit Card";
+    public static final String  CARD_NUMBER_SEQUENCE = "card_number";
+    public static final long  MAX_CARD_NUMBER = 999_999_999_999L;
+    public static final String  CARD_ID_SEQUENCE = "card_id";
+    public static final int  CARD_ID_BLOCK_SIZE = 50;
+    public static final long  MAX_CARD_ID = Long.MAX_VALUE;
     public static final int  NEW_CARD_LIMIT = 1_00_000;
     public static final String  STATUS_201 = "201";
     public static final String  MESSAGE_201 = "Card created successfully";
@@ -0,0 +1,111 @@
+package com.eazybytes.cards.controller;
+
+import com.eazybytes.cards.constants.CardsConstants;
+import com.eazybytes.cards.dto.CardsContactInfoDto;
+import com.eazybytes.cards.dto.CardsDto;
+import com.eazybytes.cards.dto.ResponseDto;
+import com.eazybytes.cards.service.IReactiveCardsService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * The {@link CardsController} contract on WebFlux, served when the reactive profile is
+ * active. Requests, responses and error bodies are the same as in the servlet variant.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping(path = "/api", produces = {MediaType.APPLICATION_JSON_VALUE})
+@Validated
+public class ReactiveCardsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCardsController.class);
+    private final CardsContactInfoDto cardsContactInfoDto;
+    private final IReactiveCardsService iCardsService;
+
+    @Value("${build.version}")
+    private String buildVersion;
+
+    private final Environment environment;
+
+    public ReactiveCardsController(CardsContactInfoDto cardsContactInfoDto, IReactiveCardsService iCardsService,
+                                   Environment environment) {
+        this.cardsContactInfoDto = cardsContactInfoDto;
+        this.iCardsService = iCardsService;
+        this.environment = environment;
+    }
+
+    @PostMapping("/create")
+    public Mono<ResponseEntity<ResponseDto>> createCard(@Valid @RequestParam
+                                                        @Pattern(regexp="(^$|[0-9]{10})",message = "Mobile number must be 10 digits")
+                                                        String mobileNumber) {
+        return iCardsService.createCard(mobileNumber)
+                .then(Mono.fromSupplier(() -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(new ResponseDto(CardsConstants.STATUS_201, CardsConstants.MESSAGE_201))));
+    }
+
+    @GetMapping("/fetch")
+    public Mono<ResponseEntity<CardsDto>> fetchCardDetails(@RequestHeader("eazybank-correlation-id") String correlationId,
+                                                           @RequestParam
+                                                           @Pattern(regexp="(^$|[0-9]{10})",message = "Mobile number must be 10 digits")
+                                                           String mobileNumber) {
+        logger.debug("fetchCardDetails method Starts");
+        return iCardsService.fetchCard(mobileNumber)
+                .map(cardsDto -> ResponseEntity.status(HttpStatus.OK).body(cardsDto))
+                .doOnSuccess(response -> logger.debug("fetchCard Details method Ends"));
+    }
+
+    @PutMapping("/update")
+    public Mono<ResponseEntity<ResponseDto>> updateCardDetails(@Valid @RequestBody CardsDto cardsDto) {
+        return iCardsService.updateCard(cardsDto)
+                .map(isUpdated -> isUpdated
+                        ? ResponseEntity
+                                .status(HttpStatus.OK)
+                                .body(new ResponseDto(CardsConstants.STATUS_200, CardsConstants.MESSAGE_200))
+                        : ResponseEntity
+                                .status(HttpStatus.EXPECTATION_FAILED)
+                                .body(new ResponseDto(CardsConstants.STATUS_417, CardsConstants.MESSAGE_417_UPDATE)));
+    }
+
+    @DeleteMapping("/delete")
+    public Mono<ResponseEntity<ResponseDto>> deleteCardDetails(@RequestParam
+                                                               @Pattern(regexp="(^$|[0-9]{10})",message = "Mobile number must be 10 digits")
+                                                               String mobileNumber) {
+        return iCardsService.deleteCard(mobileNumber)
+                .map(isDeleted -> isDeleted
+                        ? ResponseEntity
+                                .status(HttpStatus.OK)
+                                .body(new ResponseDto(CardsConstants.STATUS_200, CardsConstants.MESSAGE_200))
+                        : ResponseEntity
+                                .status(HttpStatus.EXPECTATION_FAILED)
+                                .body(new ResponseDto(CardsConstants.STATUS_417, CardsConstants.MESSAGE_417_DELETE)));
+    }
+
+    @GetMapping("/build-info")
+    public ResponseEntity<String> getBuildInfo(){
+        return ResponseEntity.ok(buildVersion);
+    }
+
+    @GetMapping("/java-version")
+    public ResponseEntity<String> getJavaVersion(){
+        return ResponseEntity.ok(environment.getProperty("JAVA_HOME"));
+    }
+
+    @GetMapping("/contact-info")
+    public ResponseEntity<CardsContactInfoDto> getContactInfo(){
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(cardsContactInfoDto);
+    }
+
+}
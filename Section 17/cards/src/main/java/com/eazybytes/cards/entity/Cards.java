@@ -1,5 +1,6 @@
 package com.eazybytes.cards.entity;
 
+import com.eazybytes.cards.constants.CardsConstants;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,7 +13,10 @@ import lombok.*;
 public class Cards extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "card_id_generator")
+	@TableGenerator(name = "card_id_generator", table = "number_sequence", pkColumnName = "sequence_name",
+			valueColumnName = "next_val", pkColumnValue = CardsConstants.CARD_ID_SEQUENCE,
+			allocationSize = CardsConstants.CARD_ID_BLOCK_SIZE)
 	private Long cardId;
 
 	private String mobileNumber;
@@ -1,6 +1,7 @@
 package com.eazybytes.cards.exception;
 
 import com.eazybytes.cards.dto.ErrorResponseDto;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -19,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 
 @ControllerAdvice
+@Profile("!reactive")
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     @Override
@@ -0,0 +1,75 @@
+package com.eazybytes.cards.exception;
+
+import com.eazybytes.cards.dto.ErrorResponseDto;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link GlobalExceptionHandler} for the reactive profile, producing the same status
+ * codes and bodies. The api path keeps the {@code uri=} prefix of
+ * {@code WebRequest#getDescription(false)}.
+ */
+@ControllerAdvice
+@Profile("reactive")
+public class ReactiveGlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    @Override
+    protected Mono<ResponseEntity<Object>> handleWebExchangeBindException(
+            WebExchangeBindException ex, HttpHeaders headers, HttpStatusCode status, ServerWebExchange exchange) {
+        Map<String, String> validationErrors = new HashMap<>();
+        List<ObjectError> validationErrorList = ex.getBindingResult().getAllErrors();
+
+        validationErrorList.forEach((error) -> {
+            String fieldName = ((FieldError) error).getField();
+            String validationMsg = error.getDefaultMessage();
+            validationErrors.put(fieldName, validationMsg);
+        });
+        return Mono.just(new ResponseEntity<>(validationErrors, HttpStatus.BAD_REQUEST));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponseDto> handleGlobalException(Exception exception,
+                                                                  ServerWebExchange exchange) {
+        return errorResponse(exchange, HttpStatus.INTERNAL_SERVER_ERROR, exception);
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handleResourceNotFoundException(ResourceNotFoundException exception,
+                                                                            ServerWebExchange exchange) {
+        return errorResponse(exchange, HttpStatus.NOT_FOUND, exception);
+    }
+
+    @ExceptionHandler(CardAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponseDto> handleCardAlreadyExistsException(CardAlreadyExistsException exception,
+                                                                             ServerWebExchange exchange) {
+        return errorResponse(exchange, HttpStatus.BAD_REQUEST, exception);
+    }
+
+    private ResponseEntity<ErrorResponseDto> errorResponse(ServerWebExchange exchange, HttpStatus status,
+                                                           Exception exception) {
+        ErrorResponseDto errorResponseDTO = new ErrorResponseDto(
+                "uri=" + exchange.getRequest().getPath().value(),
+                status,
+                exception.getMessage(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(errorResponseDTO, status);
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.eazybytes.cards.generator;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link NumberGenerator} for the reactive profile.
+ */
+public interface ReactiveNumberGenerator {
+
+    /**
+     * @return a number that has not been handed out before by any instance
+     */
+    Mono<Long> nextNumber();
+}
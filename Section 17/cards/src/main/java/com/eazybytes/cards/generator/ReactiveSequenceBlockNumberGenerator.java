@@ -0,0 +1,109 @@
+package com.eazybytes.cards.generator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link SequenceBlockNumberGenerator} over R2DBC. Blocks are reserved from the same
+ * number_sequence rows in the same way, so both variants can hand out numbers from one
+ * database. Callers that find the block exhausted while a reservation is in flight wait
+ * for that reservation instead of starting another.
+ */
+public class ReactiveSequenceBlockNumberGenerator implements ReactiveNumberGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveSequenceBlockNumberGenerator.class);
+
+    private final String sequenceName;
+    private final int blockSize;
+    private final long maxValue;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final AtomicReference<Mono<Void>> refilling = new AtomicReference<>();
+
+    private volatile Block block = new Block(0, 0);
+
+    public ReactiveSequenceBlockNumberGenerator(String sequenceName, int blockSize, long maxValue,
+                                                DatabaseClient databaseClient,
+                                                ReactiveTransactionManager transactionManager) {
+        this.sequenceName = sequenceName;
+        this.blockSize = blockSize;
+        this.maxValue = maxValue;
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager,
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Override
+    public Mono<Long> nextNumber() {
+        return Mono.defer(() -> {
+            Block current = block;
+            long number = current.next.getAndIncrement();
+            if (number < current.end) {
+                return Mono.just(number);
+            }
+            return refill(current).then(nextNumber());
+        });
+    }
+
+    private Mono<Void> refill(Block exhausted) {
+        while (true) {
+            if (block != exhausted) {
+                return Mono.empty();
+            }
+            Mono<Void> pending = refilling.get();
+            if (pending != null) {
+                return pending;
+            }
+            Mono<Void> reservation = reserveBlock()
+                    .doOnNext(reserved -> block = reserved)
+                    .doFinally(signal -> refilling.set(null))
+                    .then()
+                    .cache();
+            if (refilling.compareAndSet(null, reservation)) {
+                return reservation;
+            }
+        }
+    }
+
+    private Mono<Block> reserveBlock() {
+        return databaseClient.sql("SELECT next_val FROM number_sequence WHERE sequence_name = :name FOR UPDATE")
+                .bind("name", sequenceName)
+                .map(row -> row.get("next_val", Long.class))
+                .one()
+                .flatMap(nextValue -> databaseClient.sql("UPDATE number_sequence SET next_val = :next WHERE sequence_name = :name")
+                        .bind("next", nextValue + blockSize)
+                        .bind("name", sequenceName)
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(nextValue))
+                .as(transactionalOperator::transactional)
+                .map(start -> {
+                    long end = Math.min(start + blockSize, maxValue + 1);
+                    if (start >= end) {
+                        throw new IllegalStateException("Number sequence " + sequenceName + " is exhausted");
+                    }
+                    log.debug("Reserved {} numbers [{}, {}) from sequence {}", end - start, start, end, sequenceName);
+                    return new Block(start, end);
+                });
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.eazybytes.cards.repository;
+
+import com.eazybytes.cards.entity.Cards;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to the cards table for the reactive profile. Reads only the
+ * columns that reach the API, and updates and deletes are single statements whose
+ * row count tells whether the card existed.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveCardsRepository {
+
+    private static final String SELECT_CARD = "SELECT card_id, mobile_number, card_number, card_type, total_limit, "
+            + "amount_used, available_amount FROM cards ";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveCardsRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Cards> findByMobileNumber(String mobileNumber) {
+        return databaseClient.sql(SELECT_CARD + "WHERE mobile_number = :mobileNumber LIMIT 1")
+                .bind("mobileNumber", mobileNumber)
+                .map(ReactiveCardsRepository::mapToCards)
+                .one();
+    }
+
+    public Mono<Boolean> existsByMobileNumber(String mobileNumber) {
+        return databaseClient.sql("SELECT 1 FROM cards WHERE mobile_number = :mobileNumber LIMIT 1")
+                .bind("mobileNumber", mobileNumber)
+                .map(row -> true)
+                .one()
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<Void> insert(Cards cards) {
+        return databaseClient.sql("INSERT INTO cards (card_id, mobile_number, card_number, card_type, total_limit, "
+                        + "amount_used, available_amount, created_at, created_by) VALUES (:cardId, :mobileNumber, "
+                        + ":cardNumber, :cardType, :totalLimit, :amountUsed, :availableAmount, :createdAt, :createdBy)")
+                .bind("cardId", cards.getCardId())
+                .bind("mobileNumber", cards.getMobileNumber())
+                .bind("cardNumber", cards.getCardNumber())
+                .bind("cardType", cards.getCardType())
+                .bind("totalLimit", cards.getTotalLimit())
+                .bind("amountUsed", cards.getAmountUsed())
+                .bind("availableAmount", cards.getAvailableAmount())
+                .bind("createdAt", cards.getCreatedAt())
+                .bind("createdBy", cards.getCreatedBy())
+                .then();
+    }
+
+    /**
+     * @return the number of cards updated, 0 if no card has the given card number
+     */
+    public Mono<Long> updateByCardNumber(Cards cards) {
+        return databaseClient.sql("UPDATE cards SET mobile_number = :mobileNumber, card_type = :cardType, "
+                        + "total_limit = :totalLimit, amount_used = :amountUsed, available_amount = :availableAmount, "
+                        + "updated_at = :updatedAt, updated_by = :updatedBy WHERE card_number = :cardNumber")
+                .bind("mobileNumber", cards.getMobileNumber())
+                .bind("cardType", cards.getCardType())
+                .bind("totalLimit", cards.getTotalLimit())
+                .bind("amountUsed", cards.getAmountUsed())
+                .bind("availableAmount", cards.getAvailableAmount())
+                .bind("updatedAt", cards.getUpdatedAt())
+                .bind("updatedBy", cards.getUpdatedBy())
+                .bind("cardNumber", cards.getCardNumber())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * @return the number of cards deleted, 0 if the mobile number has no card
+     */
+    public Mono<Long> deleteByMobileNumber(String mobileNumber) {
+        return databaseClient.sql("DELETE FROM cards WHERE mobile_number = :mobileNumber")
+                .bind("mobileNumber", mobileNumber)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static Cards mapToCards(Readable row) {
+        Cards cards = new Cards();
+        cards.setCardId(row.get("card_id", Long.class));
+        cards.setMobileNumber(row.get("mobile_number", String.class));
+        cards.setCardNumber(row.get("card_number", String.class));
+        cards.setCardType(row.get("card_type", String.class));
+        cards.setTotalLimit(row.get("total_limit", Integer.class));
+        cards.setAmountUsed(row.get("amount_used", Integer.class));
+        cards.setAvailableAmount(row.get("available_amount", Integer.class));
+        return cards;
+    }
+}
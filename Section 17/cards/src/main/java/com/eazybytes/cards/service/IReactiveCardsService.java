@@ -0,0 +1,36 @@
+package com.eazybytes.cards.service;
+
+import com.eazybytes.cards.dto.CardsDto;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveCardsService {
+
+    /**
+     *
+     * @param mobileNumber - Mobile Number of the Customer
+     * @return completes once the card is created
+     */
+    Mono<Void> createCard(String mobileNumber);
+
+    /**
+     *
+     * @param mobileNumber - Input mobile Number
+     *  @return Card Details based on a given mobileNumber
+     */
+    Mono<CardsDto> fetchCard(String mobileNumber);
+
+    /**
+     *
+     * @param cardsDto - CardsDto Object
+     * @return boolean indicating if the update of card details is successful or not
+     */
+    Mono<Boolean> updateCard(CardsDto cardsDto);
+
+    /**
+     *
+     * @param mobileNumber - Input Mobile Number
+     * @return boolean indicating if the delete of card details is successful or not
+     */
+    Mono<Boolean> deleteCard(String mobileNumber);
+
+}
@@ -5,20 +5,23 @@ import com.eazybytes.cards.dto.CardsDto;
 import com.eazybytes.cards.entity.Cards;
 import com.eazybytes.cards.exception.CardAlreadyExistsException;
 import com.eazybytes.cards.exception.ResourceNotFoundException;
+import com.eazybytes.cards.generator.NumberGenerator;
 import com.eazybytes.cards.mapper.CardsMapper;
 import com.eazybytes.cards.repository.CardsRepository;
 import com.eazybytes.cards.service.ICardsService;
 import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
-import java.util.Random;
 
 @Service
+@Profile("!reactive")
 @AllArgsConstructor
 public class CardsServiceImpl implements ICardsService {
 
     private CardsRepository cardsRepository;
+    private NumberGenerator cardNumberGenerator;
 
     /**
      * @param mobileNumber - Mobile Number of the Customer
@@ -38,8 +41,7 @@ public class CardsServiceImpl implements ICardsService {
      */
     private Cards createNewCard(String mobileNumber) {
         Cards newCard = new Cards();
-        long randomCardNumber = 100000000000L + new Random().nextInt(900000000);
-        newCard.setCardNumber(Long.toString(randomCardNumber));
+        newCard.setCardNumber(Long.toString(cardNumberGenerator.nextNumber()));
         newCard.setMobileNumber(mobileNumber);
         newCard.setCardType(CardsConstants.CREDIT_CARD);
         newCard.setTotalLimit(CardsConstants.NEW_CARD_LIMIT);
@@ -0,0 +1,105 @@
+package com.eazybytes.cards.service.impl;
+
+import com.eazybytes.cards.constants.CardsConstants;
+import com.eazybytes.cards.dto.CardsDto;
+import com.eazybytes.cards.entity.Cards;
+import com.eazybytes.cards.exception.CardAlreadyExistsException;
+import com.eazybytes.cards.exception.ResourceNotFoundException;
+import com.eazybytes.cards.generator.ReactiveNumberGenerator;
+import com.eazybytes.cards.mapper.CardsMapper;
+import com.eazybytes.cards.repository.ReactiveCardsRepository;
+import com.eazybytes.cards.service.IReactiveCardsService;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveCardsServiceImpl implements IReactiveCardsService {
+
+    private ReactiveCardsRepository cardsRepository;
+    private ReactiveNumberGenerator cardNumberGenerator;
+    private ReactiveNumberGenerator cardIdGenerator;
+    private AuditorAware<String> auditAwareImpl;
+
+    /**
+     * @param mobileNumber - Mobile Number of the Customer
+     */
+    @Override
+    public Mono<Void> createCard(String mobileNumber) {
+        return cardsRepository.existsByMobileNumber(mobileNumber)
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.error(new CardAlreadyExistsException(
+                                "Card already registered with given mobileNumber " + mobileNumber));
+                    }
+                    return Mono.zip(cardIdGenerator.nextNumber(), cardNumberGenerator.nextNumber())
+                            .flatMap(numbers -> cardsRepository.insert(
+                                    createNewCard(numbers.getT1(), numbers.getT2(), mobileNumber)));
+                });
+    }
+
+    /**
+     * The ids come from the same number_sequence row as the JPA table generator and the
+     * audit columns are set here, as JPA auditing would.
+     */
+    private Cards createNewCard(long cardId, long cardNumber, String mobileNumber) {
+        Cards newCard = new Cards();
+        newCard.setCardId(cardId);
+        newCard.setCardNumber(Long.toString(cardNumber));
+        newCard.setMobileNumber(mobileNumber);
+        newCard.setCardType(CardsConstants.CREDIT_CARD);
+        newCard.setTotalLimit(CardsConstants.NEW_CARD_LIMIT);
+        newCard.setAmountUsed(0);
+        newCard.setAvailableAmount(CardsConstants.NEW_CARD_LIMIT);
+        newCard.setCreatedAt(LocalDateTime.now());
+        newCard.setCreatedBy(auditAwareImpl.getCurrentAuditor().orElse(null));
+        return newCard;
+    }
+
+    /**
+     *
+     * @param mobileNumber - Input mobile Number
+     * @return Card Details based on a given mobileNumber
+     */
+    @Override
+    public Mono<CardsDto> fetchCard(String mobileNumber) {
+        return cardsRepository.findByMobileNumber(mobileNumber)
+                .map(cards -> CardsMapper.mapToCardsDto(cards, new CardsDto()))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Card", "mobileNumber", mobileNumber)));
+    }
+
+    /**
+     *
+     * @param cardsDto - CardsDto Object
+     * @return boolean indicating if the update of card details is successful or not
+     */
+    @Override
+    public Mono<Boolean> updateCard(CardsDto cardsDto) {
+        Cards cards = CardsMapper.mapToCards(cardsDto, new Cards());
+        cards.setUpdatedAt(LocalDateTime.now());
+        cards.setUpdatedBy(auditAwareImpl.getCurrentAuditor().orElse(null));
+        return cardsRepository.updateByCardNumber(cards)
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(new ResourceNotFoundException("Card", "CardNumber", cardsDto.getCardNumber()))
+                        : Mono.just(true));
+    }
+
+    /**
+     * @param mobileNumber - Input MobileNumber
+     * @return boolean indicating if the delete of card details is successful or not
+     */
+    @Override
+    public Mono<Boolean> deleteCard(String mobileNumber) {
+        return cardsRepository.deleteByMobileNumber(mobileNumber)
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.error(new ResourceNotFoundException("Card", "mobileNumber", mobileNumber))
+                        : Mono.just(true));
+    }
+
+}
@@ -0,0 +1,8 @@
+-- The entity maps card_id as Long
+ALTER TABLE `cards` MODIFY `card_id` bigint NOT NULL AUTO_INCREMENT;
+
+-- findByMobileNumber; a mobile number has at most one card
+CREATE UNIQUE INDEX `ux_cards_mobile_number` ON `cards` (`mobile_number`);
+
+-- findByCardNumber
+CREATE UNIQUE INDEX `ux_cards_card_number` ON `cards` (`card_number`);
@@ -0,0 +1,117 @@
+package com.eazybytes.cards.repository;
+
+import com.eazybytes.cards.CardsApplication;
+import com.eazybytes.cards.audit.AuditAwareImpl;
+import com.eazybytes.cards.config.JpaConfig;
+import com.eazybytes.cards.constants.CardsConstants;
+import com.eazybytes.cards.entity.Cards;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the repository queries against MySQL with the Flyway schema and fails if any of
+ * them reads a table without using an index, as counted by performance_schema.
+ * Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {"spring.cloud.config.enabled=false", "spring.config.import="})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTests {
+
+    private static final int CARDS = 500;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4").withUsername("root");
+
+    /**
+     * Only JPA and the repositories, without the rest of the application.
+     */
+    @Configuration
+    @AutoConfigurationPackage(basePackageClasses = CardsApplication.class)
+    @Import({JpaConfig.class, AuditAwareImpl.class})
+    static class RepositoryConfig {
+    }
+
+    @Autowired
+    private CardsRepository cardsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createCards() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        for (int i = 0; i < CARDS; i++) {
+            Cards card = new Cards();
+            card.setMobileNumber(mobileNumber(i));
+            card.setCardNumber(cardNumber(i));
+            card.setCardType(CardsConstants.CREDIT_CARD);
+            card.setTotalLimit(CardsConstants.NEW_CARD_LIMIT);
+            card.setAmountUsed(0);
+            card.setAvailableAmount(CardsConstants.NEW_CARD_LIMIT);
+            cardsRepository.save(card);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void repositoryQueriesUseIndexes() {
+        Map<String, Long> before = tableScans();
+
+        assertThat(cardsRepository.findByMobileNumber(mobileNumber(7))).isPresent();
+        assertThat(cardsRepository.findByCardNumber(cardNumber(7))).isPresent();
+
+        Map<String, Long> after = tableScans();
+        assertThat(after.entrySet())
+                .filteredOn(scan -> scan.getValue() > before.getOrDefault(scan.getKey(), 0L))
+                .as("statements that read a table without an index")
+                .isEmpty();
+    }
+
+    /**
+     * Statement digests of this schema with the number of times each ran without a
+     * usable index.
+     */
+    private Map<String, Long> tableScans() {
+        Map<String, Long> scans = new HashMap<>();
+        jdbcTemplate.query("SELECT DIGEST_TEXT, SUM_NO_INDEX_USED + SUM_NO_GOOD_INDEX_USED "
+                        + "FROM performance_schema.events_statements_summary_by_digest "
+                        + "WHERE SCHEMA_NAME = DATABASE() AND DIGEST_TEXT NOT LIKE '%performance_schema%'",
+                (RowCallbackHandler) row -> scans.put(row.getString(1), row.getLong(2)));
+        return scans;
+    }
+
+    private static String mobileNumber(int card) {
+        return String.format("9%09d", card);
+    }
+
+    private static String cardNumber(int card) {
+        return Long.toString(101_000_000_000L + card);
+    }
+}
@@ -1,7 +1,15 @@
 package com.eazybytes.gatewayserver;
 
+import com.eazybytes.gatewayserver.filters.CustomerDetailsFilter;
+import com.eazybytes.gatewayserver.filters.HedgingFilter;
+import com.eazybytes.gatewayserver.filters.PathPrefixRewriteFilter;
+import com.eazybytes.gatewayserver.filters.ResponseCacheFilter;
+import com.eazybytes.gatewayserver.ratelimit.HybridRateLimiter;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
@@ -11,12 +19,17 @@ import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
 import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.cloud.gateway.support.ConfigurationService;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.http.HttpMethod;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @SpringBootApplication
 public class GatewayserverApplication {
@@ -26,30 +39,47 @@ public class GatewayserverApplication {
 	}
 
 	@Bean
-	public RouteLocator eazyBankRouteConfig(RouteLocatorBuilder routeLocatorBuilder){
+	public RouteLocator eazyBankRouteConfig(RouteLocatorBuilder routeLocatorBuilder, ResponseCacheFilter responseCacheFilter,
+											HybridRateLimiter hybridRateLimiter, HedgingFilter hedgingFilter,
+											CustomerDetailsFilter customerDetailsFilter){
 		return routeLocatorBuilder.routes()
-				.route(p -> p
+				.route("accounts", p -> p
 						.path("/eazybank/accounts/**")
-						.filters( f-> f.rewritePath("/eazybank/accounts/(?<segment>.*)","/${segment}")
-								.addResponseHeader("X-Response-Time", LocalDateTime.now().toString())
+						.filters( f-> f.filter(responseCacheFilter.forPaths(cachedPaths("accounts")))
+								.filter(new PathPrefixRewriteFilter("/eazybank/accounts"))
 								.circuitBreaker(config -> config.setName("accountsCircuitBreaker")
 										.setFallbackUri("forward:/contactSupport")))
 						.uri("http://accounts:8080"))
-				.route(p -> p
+				.route("loans", p -> p
 						.path("/eazybank/loans/**")
-						.filters( f-> f.rewritePath("/eazybank/loans/(?<segment>.*)","/${segment}")
-								.addResponseHeader("X-Response-Time", LocalDateTime.now().toString())
+						.filters( f-> f.filter(responseCacheFilter.forPaths(cachedPaths("loans")))
+								.filter(new PathPrefixRewriteFilter("/eazybank/loans"))
+								.filter(hedgingFilter.forService("loans"))
 								.retry(retryConfig -> retryConfig.setRetries(3)
 										.setMethods(HttpMethod.GET)
 										.setBackoff(Duration.ofMillis(100), Duration.ofMillis(1000),2 , true)))
 						.uri("http://loans:8090"))
-				.route(p -> p
+				.route("cards", p -> p
 						.path("/eazybank/cards/**")
-						.filters( f-> f.rewritePath("/eazybank/cards/(?<segment>.*)","/${segment}")
-								.addResponseHeader("X-Response-Time", LocalDateTime.now().toString())
-								.requestRateLimiter(config -> config.setRateLimiter(redisRateLimiter())
+						.filters( f-> f.filter(responseCacheFilter.forPaths(cachedPaths("cards")))
+								.filter(new PathPrefixRewriteFilter("/eazybank/cards"))
+								.filter(hedgingFilter.forService("cards"))
+								.requestRateLimiter(config -> config.setRateLimiter(hybridRateLimiter)
 										.setKeyResolver(userKeyResolver())))
-						.uri("http://cards:9000")).build();
+						.uri("http://cards:9000"))
+				.route("customer-details", p -> p
+						.path("/eazybank/customer-details").and().method(HttpMethod.GET)
+						.filters( f-> f.filter(customerDetailsFilter))
+						.uri("no://op")).build();
+	}
+
+	/**
+	 * GET endpoints served from the gateway response cache. Contact info only changes
+	 * with a config refresh; fetch is kept short so updates show up quickly.
+	 */
+	private static Map<String, Duration> cachedPaths(String service){
+		return Map.of("/eazybank/" + service + "/api/fetch", Duration.ofSeconds(10),
+				"/eazybank/" + service + "/api/contact-info", Duration.ofMinutes(10));
 	}
 
 	@Bean
@@ -59,9 +89,20 @@ public class GatewayserverApplication {
 				.timeLimiterConfig(TimeLimiterConfig.custom().timeoutDuration(Duration.ofSeconds(4)).build()).build());
 	}
 
+	/**
+	 * Primary, so it is used instead of the RedisRateLimiter the gateway auto-configures.
+	 * The limit defaults to the RedisRateLimiter(1, 1, 1) the cards route had.
+	 */
 	@Bean
-	public RedisRateLimiter redisRateLimiter(){
-		return new RedisRateLimiter(1,1,1);
+	@Primary
+	public HybridRateLimiter hybridRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+											   @Qualifier(RedisRateLimiter.REDIS_SCRIPT_NAME) RedisScript<List<Long>> script,
+											   ConfigurationService configurationService, MeterRegistry meterRegistry,
+											   @Value("${eazybank.rate-limit.replenish-rate:1}") int replenishRate,
+											   @Value("${eazybank.rate-limit.burst-capacity:1}") int burstCapacity){
+		return new HybridRateLimiter(redisTemplate, script, configurationService, meterRegistry,
+				new HybridRateLimiter.Config().setReplenishRate(replenishRate).setBurstCapacity(burstCapacity)
+						.setFailOpen(true));
 	}
 
 	@Bean
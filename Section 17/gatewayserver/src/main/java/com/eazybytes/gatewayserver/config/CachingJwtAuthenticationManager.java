@@ -0,0 +1,91 @@
+package com.eazybytes.gatewayserver.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Remembers the {@link Authentication} built for a bearer token until the token
+ * expires, so clients reusing a token skip signature verification and authority
+ * mapping. Entries are keyed by the SHA-256 of the token, not the token itself.
+ */
+public class CachingJwtAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final ReactiveAuthenticationManager delegate;
+
+    private final Cache<String, JwtAuthenticationToken> cache;
+
+    public CachingJwtAuthenticationManager(ReactiveAuthenticationManager delegate, long maximumSize,
+                                           MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, JwtAuthenticationToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtAuthenticationToken authentication, long currentTime) {
+                        return timeToExpiry(authentication);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtAuthenticationToken authentication, long currentTime,
+                                                  long currentDuration) {
+                        return timeToExpiry(authentication);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtAuthenticationToken authentication, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gatewayJwtAuthentication");
+    }
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        if (!(authentication instanceof BearerTokenAuthenticationToken bearer)) {
+            return delegate.authenticate(authentication);
+        }
+        String key = hash(bearer.getToken());
+        JwtAuthenticationToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return delegate.authenticate(authentication).doOnNext(result -> {
+            if (result instanceof JwtAuthenticationToken jwtAuthentication
+                    && jwtAuthentication.getToken().getExpiresAt() != null) {
+                cache.put(key, jwtAuthentication);
+            }
+        });
+    }
+
+    private static long timeToExpiry(JwtAuthenticationToken authentication) {
+        Duration remaining = Duration.between(Instant.now(), authentication.getToken().getExpiresAt());
+        return Math.max(0, remaining.toNanos());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.eazybytes.gatewayserver.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+
+import java.util.List;
+
+/**
+ * Connection pool of the client the gateway proxies with. Pool metrics are published by
+ * Reactor Netty per upstream address as {@code reactor.netty.connection.provider.*}:
+ * active, idle and pending connections, and the time spent waiting for one.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    /**
+     * Replaces the factory the gateway auto-configures, which backs off when one is defined.
+     */
+    @Bean
+    public PooledHttpClientFactory pooledHttpClientFactory(HttpClientProperties properties, ServerProperties serverProperties,
+                                                           HttpClientSslConfigurer sslConfigurer,
+                                                           List<HttpClientCustomizer> customizers,
+                                                           @Value("${eazybank.httpclient.pending-acquire-max-count:1000}") int pendingAcquireMaxCount) {
+        return new PooledHttpClientFactory(properties, serverProperties, sslConfigurer, customizers, pendingAcquireMaxCount);
+    }
+
+    /**
+     * Cleartext HTTP/2 to the backends when they have it enabled; a backend that does not
+     * accept the upgrade is still spoken to over HTTP/1.1.
+     */
+    @Bean
+    public HttpClientCustomizer h2cHttpClientCustomizer(@Value("${eazybank.httpclient.h2c:false}") boolean h2c) {
+        return httpClient -> h2c ? httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11) : httpClient;
+    }
+}
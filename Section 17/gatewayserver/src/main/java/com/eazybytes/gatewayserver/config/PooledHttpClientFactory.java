@@ -0,0 +1,56 @@
+package com.eazybytes.gatewayserver.config;
+
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The gateway's Netty client factory with a bounded queue for connection acquisition.
+ * A fixed pool built by the gateway lets any number of requests wait for a connection;
+ * here at most {@code pendingAcquireMaxCount} do, per upstream, and the rest fail right
+ * away instead of timing out together. All other pool settings still come from
+ * {@code spring.cloud.gateway.httpclient.pool}.
+ */
+public class PooledHttpClientFactory extends HttpClientFactory {
+
+    private final int pendingAcquireMaxCount;
+
+    public PooledHttpClientFactory(HttpClientProperties properties, ServerProperties serverProperties,
+                                   HttpClientSslConfigurer sslConfigurer, List<HttpClientCustomizer> customizers,
+                                   int pendingAcquireMaxCount) {
+        super(properties, serverProperties, sslConfigurer, customizers);
+        this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+    }
+
+    @Override
+    protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+        HttpClientProperties.Pool pool = properties.getPool();
+        if (pool.getType() != HttpClientProperties.Pool.PoolType.FIXED) {
+            return super.buildConnectionProvider(properties);
+        }
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(pool.getName())
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pool.getAcquireTimeout()))
+                .evictInBackground(pool.getEvictionInterval())
+                .metrics(pool.isMetrics());
+        if (pool.getMaxIdleTime() != null) {
+            builder.maxIdleTime(pool.getMaxIdleTime());
+        }
+        if (pool.getMaxLifeTime() != null) {
+            builder.maxLifeTime(pool.getMaxLifeTime());
+        }
+        if (pool.getLeasingStrategy() == HttpClientProperties.Pool.LeasingStrategy.LIFO) {
+            builder.lifo();
+        } else {
+            builder.fifo();
+        }
+        return builder.build();
+    }
+}
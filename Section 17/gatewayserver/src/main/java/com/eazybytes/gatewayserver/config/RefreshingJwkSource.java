@@ -0,0 +1,105 @@
+package com.eazybytes.gatewayserver.config;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * JWK source for the reactive JWT decoder that refreshes the key set in the background
+ * on a fixed interval, so token verification only reads the key set held in memory.
+ * A token signed with an unknown key triggers an early refresh, at most once per
+ * {@code minRefreshInterval}, to pick up rotated keys.
+ */
+public class RefreshingJwkSource implements Function<SignedJWT, Flux<JWK>>, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshingJwkSource.class);
+
+    private final WebClient webClient;
+    private final String jwkSetUri;
+    private final Duration minRefreshInterval;
+    private final AtomicReference<JWKSet> jwkSet = new AtomicReference<>(new JWKSet());
+    private final AtomicReference<Mono<JWKSet>> inflight = new AtomicReference<>();
+    private final Disposable scheduledRefresh;
+    private volatile long lastRefresh;
+
+    public RefreshingJwkSource(WebClient webClient, String jwkSetUri, Duration refreshInterval,
+                               Duration minRefreshInterval) {
+        this.webClient = webClient;
+        this.jwkSetUri = jwkSetUri;
+        this.minRefreshInterval = minRefreshInterval;
+        this.lastRefresh = System.nanoTime() - minRefreshInterval.toNanos();
+        this.scheduledRefresh = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh().onErrorResume(ex -> {
+                    logger.warn("Could not refresh the JWK set from {}: {}", jwkSetUri, ex.toString());
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    @Override
+    public Flux<JWK> apply(SignedJWT jwt) {
+        JWKSelector selector = new JWKSelector(JWKMatcher.forJWSHeader(jwt.getHeader()));
+        List<JWK> keys = selector.select(jwkSet.get());
+        if (!keys.isEmpty() || System.nanoTime() - lastRefresh < minRefreshInterval.toNanos()) {
+            return Flux.fromIterable(keys);
+        }
+        return refresh().flatMapMany(refreshed -> Flux.fromIterable(selector.select(refreshed)));
+    }
+
+    /**
+     * Fetches the key set; concurrent callers share the request in flight.
+     */
+    private Mono<JWKSet> refresh() {
+        while (true) {
+            Mono<JWKSet> existing = inflight.get();
+            if (existing != null) {
+                return existing;
+            }
+            AtomicReference<Mono<JWKSet>> self = new AtomicReference<>();
+            Mono<JWKSet> request = webClient.get()
+                    .uri(jwkSetUri)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .map(RefreshingJwkSource::parse)
+                    .doOnNext(refreshed -> {
+                        jwkSet.set(refreshed);
+                        lastRefresh = System.nanoTime();
+                    })
+                    .doFinally(signal -> inflight.compareAndSet(self.get(), null))
+                    .cache();
+            self.set(request);
+            if (inflight.compareAndSet(null, request)) {
+                return request;
+            }
+        }
+    }
+
+    private static JWKSet parse(String body) {
+        try {
+            return JWKSet.parse(body);
+        } catch (ParseException ex) {
+            throw new IllegalStateException("Invalid JWK set: " + ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduledRefresh.dispose();
+    }
+}
@@ -1,5 +1,7 @@
 package com.eazybytes.gatewayserver.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
@@ -10,28 +12,50 @@ import org.springframework.security.config.annotation.web.reactive.EnableWebFlux
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtReactiveAuthenticationManager;
 import org.springframework.security.oauth2.server.resource.authentication.ReactiveJwtAuthenticationConverterAdapter;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebFluxSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity serverHttpSecurity){
+    public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity serverHttpSecurity,
+                                                            ReactiveJwtDecoder jwtDecoder, MeterRegistry meterRegistry,
+                                                            @Value("${eazybank.security.jwt-cache-size:10000}") long jwtCacheSize){
+        JwtReactiveAuthenticationManager jwtAuthenticationManager = new JwtReactiveAuthenticationManager(jwtDecoder);
+        jwtAuthenticationManager.setJwtAuthenticationConverter(grantedAuthoritiesExtractor());
         serverHttpSecurity.authorizeExchange(exchanges -> exchanges.pathMatchers(HttpMethod.GET).permitAll()
                 .pathMatchers("/eazybank/accounts/**").hasRole("Accounts")
                         .pathMatchers("/eazybank/cards/**").hasRole("CARDS")
                         .pathMatchers("/eazybank/loans/**").hasRole("LOANS"))
                 .oauth2ResourceServer(oAuth2ResourceServerSpec -> oAuth2ResourceServerSpec
-                        .jwt(jwtSpec -> jwtSpec.jwtAuthenticationConverter(grantedAuthoritiesExtractor())));
+                        .jwt(jwtSpec -> jwtSpec.authenticationManager(
+                                new CachingJwtAuthenticationManager(jwtAuthenticationManager, jwtCacheSize, meterRegistry))));
         serverHttpSecurity.csrf(csrfSpec -> csrfSpec.disable());
         return serverHttpSecurity.build();
 
     }
 
+    @Bean
+    public RefreshingJwkSource jwkSource(@Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+                                         @Value("${eazybank.security.jwk-refresh-interval:5m}") Duration refreshInterval){
+        return new RefreshingJwkSource(WebClient.create(), jwkSetUri, refreshInterval, Duration.ofSeconds(30));
+    }
+
+    @Bean
+    public ReactiveJwtDecoder jwtDecoder(RefreshingJwkSource jwkSource){
+        return NimbusReactiveJwtDecoder.withJwkSource(jwkSource).build();
+    }
+
     private Converter<Jwt, Mono<AbstractAuthenticationToken>> grantedAuthoritiesExtractor(){
         JwtAuthenticationConverter jwtAuthenticationConverter = new JwtAuthenticationConverter();
         jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(new KeycloackRoleConverter());
@@ -0,0 +1,140 @@
+package com.eazybytes.gatewayserver.filters;
+
+import com.eazybytes.gatewayserver.ratelimit.GradientConcurrencyLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * Sheds load per route before it queues up in front of a saturated backend. Each route
+ * has a {@link GradientConcurrencyLimit}; requests over the limit are answered right
+ * away with 503 and {@code Retry-After}. Reads only get a share of the limit, so
+ * writes, which need one of the service roles, keep headroom when reads pile up.
+ * <p>
+ * Only requests that reached the backend feed their round trip to the limit. Answers
+ * the gateway gives itself, such as a 429 from the rate limiter, a circuit breaker
+ * fallback or a local 4xx, take microseconds and would drag down the no-load round
+ * trip the limit is measured against.
+ * <p>
+ * Runs after the response cache, which answers hits without involving the backend,
+ * and before the circuit breaker and retry filters of the route.
+ */
+@Component
+public class ConcurrencyLimitFilter implements GlobalFilter, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, GradientConcurrencyLimit> limits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double readShare;
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${eazybank.concurrency-limit.enabled:true}") boolean enabled,
+                                  @Value("${eazybank.concurrency-limit.initial-limit:50}") int initialLimit,
+                                  @Value("${eazybank.concurrency-limit.min-limit:10}") int minLimit,
+                                  @Value("${eazybank.concurrency-limit.max-limit:500}") int maxLimit,
+                                  @Value("${eazybank.concurrency-limit.read-share:0.8}") double readShare) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.readShare = readShare;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        if (!enabled || route == null) {
+            return chain.filter(exchange);
+        }
+        GradientConcurrencyLimit limit = limits.computeIfAbsent(route.getId(), this::newLimit);
+        HttpMethod method = exchange.getRequest().getMethod();
+        boolean read = HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+        if (!limit.tryAcquire(read ? readShare : 1.0)) {
+            String priority = read ? "read" : "write";
+            rejections.computeIfAbsent(route.getId() + "." + priority, key -> Counter.builder("eazybank.gateway.concurrency.rejected")
+                    .description("Requests shed because the route's concurrency limit was reached")
+                    .tag("route", route.getId())
+                    .tag("priority", priority)
+                    .register(meterRegistry)).increment();
+            logger.debug("Shedding {} request to route {} at limit {}", priority, route.getId(), limit.getLimit());
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+            return response.setComplete();
+        }
+        long start = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal -> {
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            if (signal == SignalType.ON_ERROR || status != null && (status.value() == 502
+                    || status.value() == 503 || status.value() == 504)) {
+                limit.onDropped();
+            } else if (signal == SignalType.CANCEL || !proxied(exchange, status)) {
+                limit.onIgnored();
+            } else {
+                limit.onSuccess(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static boolean proxied(ServerWebExchange exchange, HttpStatusCode status) {
+        if (status != null && status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return false;
+        }
+        URI requestUrl = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+        if (requestUrl == null) {
+            return false;
+        }
+        // a circuit breaker fallback replaces it with a forward: URL
+        String scheme = requestUrl.getScheme();
+        return "http".equals(scheme) || "https".equals(scheme) || "lb".equals(scheme);
+    }
+
+    private GradientConcurrencyLimit newLimit(String routeId) {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit);
+        Gauge.builder("eazybank.gateway.concurrency.limit", limit, GradientConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit of the route")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("eazybank.gateway.concurrency.inflight", limit, GradientConcurrencyLimit::getInflight)
+                .description("Requests of the route currently in flight")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return limit;
+    }
+
+    @Override
+    public int getOrder() {
+        // route filters added through the builder have order 0 and run after global filters of the same order
+        return 0;
+    }
+}
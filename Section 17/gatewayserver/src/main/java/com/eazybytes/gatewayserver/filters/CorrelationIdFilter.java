@@ -0,0 +1,105 @@
+package com.eazybytes.gatewayserver.filters;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Makes sure every request carries an {@code eazybank-correlation-id}. The id is read
+ * once, or generated, and kept in the exchange attributes. It is added to the proxied
+ * request as a header filter instead of rebuilding the request, and set on the
+ * response right away; {@link EchoedIdFilter} keeps a backend echoing it from adding
+ * a second value. A commit action would do the same, but any commit action makes the
+ * response build a pipeline to run them when it commits.
+ */
+@Component
+public class CorrelationIdFilter implements GlobalFilter, HttpHeadersFilter, Ordered {
+
+    public static final String CORRELATION_ID = "eazybank-correlation-id";
+
+    /**
+     * Exchange attribute holding the correlation id.
+     */
+    public static final String CORRELATION_ID_ATTR = CorrelationIdFilter.class.getName() + ".correlationId";
+
+    private static final Logger logger = LoggerFactory.getLogger(CorrelationIdFilter.class);
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String correlationId = exchange.getRequest().getHeaders().getFirst(CORRELATION_ID);
+        if (correlationId != null) {
+            logger.debug("eazyBank-correlation-id found in CorrelationIdFilter : {}", correlationId);
+        } else {
+            correlationId = generateCorrelationId();
+            logger.debug("eazyBank-correlation-id generated in CorrelationIdFilter : {}", correlationId);
+        }
+        exchange.getAttributes().put(CORRELATION_ID_ATTR, correlationId);
+        exchange.getResponse().getHeaders().set(CORRELATION_ID, correlationId);
+        return chain.filter(exchange);
+    }
+
+    /**
+     * Adds a generated id to the headers sent to the backend. Requests that arrived
+     * with an id already forward it unchanged.
+     */
+    @Override
+    public HttpHeaders filter(HttpHeaders input, ServerWebExchange exchange) {
+        if (exchange.getRequest().getHeaders().containsKey(CORRELATION_ID)) {
+            return input;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(input);
+        headers.set(CORRELATION_ID, exchange.getAttribute(CORRELATION_ID_ATTR));
+        return headers;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    /**
+     * Drops the id from backend response headers, which the routing filter adds to the
+     * response next to the one already set there.
+     */
+    @Component
+    public static class EchoedIdFilter implements HttpHeadersFilter {
+
+        @Override
+        public HttpHeaders filter(HttpHeaders input, ServerWebExchange exchange) {
+            if (!input.containsKey(CORRELATION_ID)) {
+                return input;
+            }
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(input);
+            headers.remove(CORRELATION_ID);
+            return headers;
+        }
+
+        @Override
+        public boolean supports(Type type) {
+            return type == Type.RESPONSE;
+        }
+    }
+
+    /**
+     * Random (version 4) UUID from {@link ThreadLocalRandom}: unique enough for tracing
+     * and, unlike {@link UUID#randomUUID()}, not backed by a shared SecureRandom.
+     */
+    private static String generateCorrelationId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = random.nextLong() & ~0xF000L | 0x4000L;
+        long leastSigBits = random.nextLong() & ~(0xC000000000000000L) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+}
@@ -0,0 +1,140 @@
+package com.eazybytes.gatewayserver.filters;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.setAlreadyRouted;
+
+/**
+ * Answers {@code /eazybank/customer-details} in the gateway itself. The accounts, loans
+ * and cards {@code /api/fetch} endpoints are called concurrently and merged into the
+ * CustomerDetails shape accounts returns from {@code /api/fetchCustomerDetails}, without
+ * the extra hop through accounts and its blocking Feign calls.
+ * <p>
+ * Every leg has its own timeout. Accounts is required: its errors are passed through,
+ * and a timeout is answered with 504. A loans or cards leg that fails or times out is
+ * left out of the response, as the Feign fallbacks in accounts do.
+ * <p>
+ * The calls go through the gateway's own {@link HttpClient}, so they share the
+ * connection pool, its bounds and metrics with the proxied routes.
+ */
+@Component
+public class CustomerDetailsFilter implements GatewayFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerDetailsFilter.class);
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final String accountsUri;
+    private final String loansUri;
+    private final String cardsUri;
+    private final Duration timeout;
+    private final Counter loansMissing;
+    private final Counter cardsMissing;
+
+    public CustomerDetailsFilter(WebClient.Builder webClientBuilder, HttpClient httpClient, ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${eazybank.customer-details.accounts-uri:http://accounts:8080}") String accountsUri,
+                                 @Value("${eazybank.customer-details.loans-uri:http://loans:8090}") String loansUri,
+                                 @Value("${eazybank.customer-details.cards-uri:http://cards:9000}") String cardsUri,
+                                 @Value("${eazybank.customer-details.timeout:2s}") Duration timeout) {
+        this.webClient = webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+        this.objectMapper = objectMapper;
+        this.accountsUri = accountsUri;
+        this.loansUri = loansUri;
+        this.cardsUri = cardsUri;
+        this.timeout = timeout;
+        this.loansMissing = partial(meterRegistry, "loans");
+        this.cardsMissing = partial(meterRegistry, "cards");
+    }
+
+    private static Counter partial(MeterRegistry meterRegistry, String leg) {
+        return Counter.builder("eazybank.gateway.customer-details.partial")
+                .description("Customer details responses returned without a leg that failed or timed out")
+                .tag("leg", leg)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        setAlreadyRouted(exchange);
+        String mobileNumber = exchange.getRequest().getQueryParams().getFirst("mobileNumber");
+        String correlationId = exchange.getAttribute(CorrelationIdFilter.CORRELATION_ID_ATTR);
+
+        Mono<Optional<JsonNode>> loans = optionalLeg("loans", fetch(loansUri, mobileNumber, correlationId), loansMissing);
+        Mono<Optional<JsonNode>> cards = optionalLeg("cards", fetch(cardsUri, mobileNumber, correlationId), cardsMissing);
+        Mono<JsonNode> accounts = fetch(accountsUri, mobileNumber, correlationId)
+                .onErrorMap(TimeoutException.class, ex -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                        "Accounts did not respond within " + timeout, ex));
+        return Mono.zip(accounts, loans, cards)
+                .flatMap(legs -> {
+                    ObjectNode customerDetails = (ObjectNode) legs.getT1();
+                    customerDetails.set("cardsDto", legs.getT3().orElse(null));
+                    customerDetails.set("loansDto", legs.getT2().orElse(null));
+                    return write(exchange.getResponse(), HttpStatus.OK, toJson(customerDetails));
+                })
+                .onErrorResume(WebClientResponseException.class, ex ->
+                        write(exchange.getResponse(), ex.getStatusCode(), ex.getResponseBodyAsByteArray()));
+    }
+
+    private Mono<JsonNode> fetch(String baseUri, String mobileNumber, String correlationId) {
+        return webClient.get()
+                .uri(baseUri + "/api/fetch?mobileNumber={mobileNumber}", mobileNumber)
+                .header(CorrelationIdFilter.CORRELATION_ID, correlationId)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(timeout);
+    }
+
+    private Mono<Optional<JsonNode>> optionalLeg(String leg, Mono<JsonNode> call, Counter missing) {
+        return call.map(Optional::of)
+                // a customer without loans or cards is not a failure
+                .onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.just(Optional.empty()))
+                .onErrorResume(ex -> {
+                    logger.warn("Unable to fetch {} details, returning partial response: {}", leg, ex.toString());
+                    missing.increment();
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, HttpStatusCode status, byte[] body) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private byte[] toJson(JsonNode node) {
+        try {
+            return objectMapper.writeValueAsBytes(node);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
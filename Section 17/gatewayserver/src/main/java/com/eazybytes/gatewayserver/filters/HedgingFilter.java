@@ -0,0 +1,288 @@
+package com.eazybytes.gatewayserver.filters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.setAlreadyRouted;
+
+/**
+ * Hedged GET requests for routes whose reads are idempotent. The request goes to one
+ * instance of the service found through discovery; if no response has arrived once the
+ * route's recent latency percentile has passed, the same request is sent to a second
+ * instance and whichever answers first without a server error is returned. The slower
+ * call is cancelled.
+ * <p>
+ * Hedges are paid from a budget that only grows with the requests of the route, so at
+ * most {@code budget-ratio} extra requests reach the backends even when all of them slow
+ * down together. Routes with fewer than two known instances, and everything but GET,
+ * go through the regular routing filter. Responses are buffered, which suits the small
+ * JSON reads of the routes this is applied to; see {@link #forService(String)}.
+ * <p>
+ * The calls go through the gateway's own {@link HttpClient}, so they share the
+ * connection pool with the routing filter, and a response that takes longer than its
+ * timeout is answered with 504 as the routing filter does.
+ */
+@Component
+public class HedgingFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgingFilter.class);
+
+    private static final long TOKEN = 1000;
+
+    private final ReactiveDiscoveryClient discoveryClient;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double percentile;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final long budgetPerRequest;
+    private final long maxBudget;
+    private final Duration instancesTtl;
+    private final Duration responseTimeout;
+
+    public HedgingFilter(ReactiveDiscoveryClient discoveryClient, ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+                         WebClient.Builder webClientBuilder, HttpClient httpClient, MeterRegistry meterRegistry,
+                         @Value("${eazybank.hedging.enabled:false}") boolean enabled,
+                         @Value("${eazybank.hedging.percentile:0.95}") double percentile,
+                         @Value("${eazybank.hedging.min-delay:10ms}") Duration minDelay,
+                         @Value("${eazybank.hedging.max-delay:1s}") Duration maxDelay,
+                         @Value("${eazybank.hedging.budget-ratio:0.1}") double budgetRatio,
+                         @Value("${eazybank.hedging.max-budget:10}") int maxBudget,
+                         @Value("${eazybank.hedging.instances-ttl:10s}") Duration instancesTtl,
+                         @Value("${spring.cloud.gateway.httpclient.response-timeout:10s}") Duration responseTimeout) {
+        this.discoveryClient = discoveryClient;
+        this.headersFilters = headersFilters;
+        this.webClient = webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.budgetPerRequest = Math.round(budgetRatio * TOKEN);
+        this.maxBudget = maxBudget * TOKEN;
+        this.instancesTtl = instancesTtl;
+        this.responseTimeout = responseTimeout;
+    }
+
+    /**
+     * Hedges the GET requests of a route whose backend is registered as {@code serviceId}.
+     */
+    public GatewayFilter forService(String serviceId) {
+        return new RouteHedgingFilter(serviceId);
+    }
+
+    private record Attempt(boolean hedge, ResponseEntity<byte[]> response, Throwable error) {
+
+        boolean succeeded() {
+            return response != null && !response.getStatusCode().is5xxServerError();
+        }
+    }
+
+    private class RouteHedgingFilter implements GatewayFilter, Ordered {
+
+        private final String serviceId;
+        private final Mono<List<ServiceInstance>> instances;
+        private final Timer latency;
+        private final Counter fired;
+        private final Counter won;
+        private final Counter denied;
+        private final AtomicLong budget = new AtomicLong();
+        private volatile long delayNanos;
+        private volatile long delayExpiresAt;
+
+        RouteHedgingFilter(String serviceId) {
+            this.serviceId = serviceId;
+            this.instances = discoveryClient.getInstances(serviceId)
+                    .collectList()
+                    .onErrorResume(ex -> {
+                        logger.debug("Discovery of {} failed, not hedging: {}", serviceId, ex.toString());
+                        return Mono.just(List.of());
+                    })
+                    .cache(instancesTtl);
+            this.latency = Timer.builder("eazybank.gateway.hedge.latency")
+                    .description("Backend latency of hedged routes, used to pick the hedge delay")
+                    .tag("service", serviceId)
+                    .publishPercentiles(percentile)
+                    .distributionStatisticExpiry(Duration.ofMinutes(1))
+                    .register(meterRegistry);
+            this.fired = hedges("fired");
+            this.won = hedges("won");
+            this.denied = hedges("denied");
+            this.delayNanos = maxDelay.toNanos();
+            Gauge.builder("eazybank.gateway.hedge.delay", this, filter -> filter.delayNanos / 1e6)
+                    .description("Delay after which a second request is sent, in milliseconds")
+                    .tag("service", serviceId)
+                    .register(meterRegistry);
+        }
+
+        private Counter hedges(String result) {
+            return Counter.builder("eazybank.gateway.hedges")
+                    .description("Hedged requests sent, won against the first request, or denied by the budget")
+                    .tag("service", serviceId)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+            URI requestUrl = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+            if (!enabled || !HttpMethod.GET.equals(exchange.getRequest().getMethod())
+                    || requestUrl == null || !"http".equals(requestUrl.getScheme())) {
+                return chain.filter(exchange);
+            }
+            return instances.flatMap(candidates -> {
+                if (candidates.size() < 2) {
+                    return chain.filter(exchange);
+                }
+                deposit();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int first = random.nextInt(candidates.size());
+                int second = (first + 1 + random.nextInt(candidates.size() - 1)) % candidates.size();
+                HttpHeaders headers = HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(List::of), exchange);
+
+                Mono<Attempt> primary = call(false, candidates.get(first), requestUrl, headers);
+                Mono<Attempt> hedge = Mono.delay(Duration.ofNanos(hedgeDelay())).flatMap(tick -> {
+                    if (!withdraw()) {
+                        denied.increment();
+                        return Mono.empty();
+                    }
+                    fired.increment();
+                    return call(true, candidates.get(second), requestUrl, headers);
+                });
+                // stops at the first good response, which cancels the other call; otherwise
+                // the primary's outcome is returned, as the routing filter would have
+                return Flux.merge(primary, hedge)
+                        .takeUntil(Attempt::succeeded)
+                        .reduce((chosen, next) -> next.succeeded() || !chosen.succeeded() && !next.hedge() ? next : chosen)
+                        .flatMap(attempt -> {
+                            if (attempt.error() != null) {
+                                return Mono.error(attempt.error());
+                            }
+                            if (attempt.hedge()) {
+                                won.increment();
+                            }
+                            return write(exchange, attempt.response());
+                        });
+            });
+        }
+
+        private Mono<Attempt> call(boolean hedge, ServiceInstance instance, URI requestUrl, HttpHeaders headers) {
+            URI uri = UriComponentsBuilder.fromUri(requestUrl)
+                    .host(instance.getHost())
+                    .port(instance.getPort())
+                    .build(true)
+                    .toUri();
+            long start = System.nanoTime();
+            return webClient.get()
+                    .uri(uri)
+                    .headers(requestHeaders -> {
+                        requestHeaders.addAll(headers);
+                        requestHeaders.remove(HttpHeaders.HOST);
+                    })
+                    .exchangeToMono(response -> response.toEntity(byte[].class))
+                    .timeout(responseTimeout)
+                    .onErrorMap(TimeoutException.class, ex -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                            "Response took longer than timeout: " + responseTimeout, ex))
+                    .map(response -> {
+                        if (!response.getStatusCode().is5xxServerError()) {
+                            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        }
+                        return new Attempt(hedge, response, null);
+                    })
+                    .onErrorResume(ex -> Mono.just(new Attempt(hedge, null,
+                            ex instanceof WebClientRequestException && ex.getCause() != null ? ex.getCause() : ex)));
+        }
+
+        private Mono<Void> write(ServerWebExchange exchange, ResponseEntity<byte[]> entity) {
+            setAlreadyRouted(exchange);
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(entity.getStatusCode());
+            response.getHeaders().addAll(HttpHeadersFilter.filter(headersFilters.getIfAvailable(List::of),
+                    entity.getHeaders(), exchange, HttpHeadersFilter.Type.RESPONSE));
+            response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+            byte[] body = entity.getBody() == null ? new byte[0] : entity.getBody();
+            response.getHeaders().setContentLength(body.length);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        }
+
+        /**
+         * The configured percentile of recent backend latency, clamped to the configured
+         * bounds and recomputed at most once a second.
+         */
+        private long hedgeDelay() {
+            long now = System.nanoTime();
+            if (now - delayExpiresAt >= 0) {
+                delayExpiresAt = now + TimeUnit.SECONDS.toNanos(1);
+                long observed = maxDelay.toNanos();
+                for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+                    if (value.value() > 0) {
+                        observed = (long) value.value(TimeUnit.NANOSECONDS);
+                    }
+                }
+                delayNanos = Math.max(minDelay.toNanos(), Math.min(maxDelay.toNanos(), observed));
+            }
+            return delayNanos;
+        }
+
+        private void deposit() {
+            budget.accumulateAndGet(budgetPerRequest, (balance, amount) -> Math.min(maxBudget, balance + amount));
+        }
+
+        private boolean withdraw() {
+            long balance;
+            do {
+                balance = budget.get();
+                if (balance < TOKEN) {
+                    return false;
+                }
+            } while (!budget.compareAndSet(balance, balance - TOKEN));
+            return true;
+        }
+
+        @Override
+        public int getOrder() {
+            // takes the place of the routing filter, inside UpstreamTimeFilter
+            return NettyRoutingFilter.ORDER - 1;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.eazybytes.gatewayserver.filters;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.addOriginalRequestUrl;
+
+/**
+ * Removes a literal path prefix before the request is forwarded, the same result as
+ * {@code rewritePath("/prefix/(?<segment>.*)", "/${segment}")} without a regex.
+ * <p>
+ * It runs right after {@link RouteToRequestUrlFilter} and rewrites the outgoing URL
+ * that filter resolved, instead of mutating the incoming request. The route's path
+ * predicate has already matched the prefix, so only a single {@code startsWith} on
+ * the raw path is needed.
+ */
+public class PathPrefixRewriteFilter implements GatewayFilter, Ordered {
+
+    private final String prefix;
+
+    /**
+     * @param prefix - Literal prefix to remove, without a trailing slash, e.g. {@code /eazybank/accounts}
+     */
+    public PathPrefixRewriteFilter(String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        URI requestUrl = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+        if (requestUrl == null) {
+            return chain.filter(exchange);
+        }
+        String rawPath = requestUrl.getRawPath();
+        if (rawPath == null || !rawPath.startsWith(prefix)
+                || rawPath.length() > prefix.length() && rawPath.charAt(prefix.length()) != '/') {
+            return chain.filter(exchange);
+        }
+        String path = rawPath.length() == prefix.length() ? "/" : rawPath.substring(prefix.length());
+        String query = requestUrl.getRawQuery();
+        URI rewritten = URI.create(requestUrl.getScheme() + "://" + requestUrl.getRawAuthority() + path
+                + (query != null ? "?" + query : ""));
+        addOriginalRequestUrl(exchange, requestUrl);
+        exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, rewritten);
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 1;
+    }
+}
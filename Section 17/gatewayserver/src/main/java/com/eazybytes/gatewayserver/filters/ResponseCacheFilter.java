@@ -0,0 +1,258 @@
+package com.eazybytes.gatewayserver.filters;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * In-memory cache for idempotent GET endpoints, shared by all routes and bounded by
+ * the total size of the cached bodies. Each route decides which of its paths are
+ * cached and for how long, see {@link #forPaths(Map)}.
+ */
+@Component
+public class ResponseCacheFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheFilter.class);
+
+    private static final Set<String> UNCACHED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        UNCACHED_HEADERS.addAll(List.of(HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING,
+                HttpHeaders.CONNECTION, HttpHeaders.DATE, HttpHeaders.SET_COOKIE, CorrelationIdFilter.CORRELATION_ID));
+    }
+
+    private final Cache<String, CachedResponse> cache;
+
+    private final KeyResolver userKeyResolver;
+
+    public ResponseCacheFilter(KeyResolver userKeyResolver, MeterRegistry meterRegistry,
+                               @Value("${eazybank.response-cache.max-size:16MB}") DataSize maxSize) {
+        this.userKeyResolver = userKeyResolver;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, CachedResponse response) -> key.length() + response.body().length)
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+                        return response.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse response, long currentTime,
+                                                  long currentDuration) {
+                        return response.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse response, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gatewayResponseCache");
+    }
+
+    /**
+     * Creates the cache filter of a route. It has to be the first filter of the route,
+     * so that hits are answered before the circuit breaker or the backend are involved.
+     * @param ttlByPath - Time to live of the cached responses, by request path
+     */
+    public GatewayFilter forPaths(Map<String, Duration> ttlByPath) {
+        return new RouteResponseCacheFilter(ttlByPath);
+    }
+
+    private class RouteResponseCacheFilter implements GatewayFilter, Ordered {
+
+        private final Map<String, Duration> ttlByPath;
+
+        RouteResponseCacheFilter(Map<String, Duration> ttlByPath) {
+            this.ttlByPath = Map.copyOf(ttlByPath);
+        }
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+            ServerHttpRequest request = exchange.getRequest();
+            Duration ttl = ttlByPath.get(request.getPath().value());
+            if (ttl == null || request.getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+            return userKeyResolver.resolve(exchange).defaultIfEmpty("anonymous").flatMap(user -> {
+                String key = cacheKey(request, user);
+                List<String> cacheControl = request.getHeaders().getOrEmpty(HttpHeaders.CACHE_CONTROL);
+                boolean noCache = cacheControl.stream().anyMatch(value -> value.contains("no-cache"));
+                CachedResponse cached = noCache ? null : cache.getIfPresent(key);
+                if (cached != null) {
+                    logger.debug("Serving {} from the response cache", request.getPath());
+                    return cached.writeTo(exchange.getResponse(), request);
+                }
+                boolean noStore = cacheControl.stream().anyMatch(value -> value.contains("no-store"));
+                if (noStore) {
+                    return chain.filter(exchange);
+                }
+                CachingResponseDecorator response = new CachingResponseDecorator(exchange, key, ttl);
+                return chain.filter(exchange.mutate().response(response).build());
+            });
+        }
+
+        @Override
+        public int getOrder() {
+            // route filters added through the builder default to order 0
+            return -1;
+        }
+    }
+
+    private static String cacheKey(ServerHttpRequest request, String user) {
+        StringBuilder key = new StringBuilder(request.getPath().value());
+        if (request.getURI().getRawQuery() != null) {
+            key.append('?').append(request.getURI().getRawQuery());
+        }
+        key.append('|').append(user);
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization != null) {
+            // the key outlives the request in the cache, so it holds a digest of the token
+            key.append('|').append(hash(authorization));
+        }
+        return key.toString();
+    }
+
+    private static String hash(String authorization) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(authorization.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Whether the response comes from the backend of the route. A circuit breaker that
+     * forwards to a fallback handler also answers 200, but that body must never be served
+     * from the cache once the backend has recovered.
+     */
+    private static boolean fromUpstream(ServerWebExchange exchange) {
+        if (exchange.getAttribute(CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR) != null
+                || exchange.getAttribute(GATEWAY_ROUTE_ATTR) == null) {
+            return false;
+        }
+        URI requestUrl = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+        return requestUrl != null && ("http".equals(requestUrl.getScheme()) || "https".equals(requestUrl.getScheme()));
+    }
+
+    private static boolean notModified(ServerHttpRequest request, String etag) {
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        return ifNoneMatch.contains(etag) || ifNoneMatch.contains("*");
+    }
+
+    private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final ServerHttpRequest request;
+        private final String key;
+        private final Duration ttl;
+
+        CachingResponseDecorator(ServerWebExchange exchange, String key, Duration ttl) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.request = exchange.getRequest();
+            this.key = key;
+            this.ttl = ttl;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            if (!HttpStatus.OK.equals(getStatusCode()) || !fromUpstream(exchange) || headers.getCacheControl() != null
+                    && (headers.getCacheControl().contains("no-store") || headers.getCacheControl().contains("no-cache"))) {
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(body)
+                    .map(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        return bytes;
+                    })
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(bytes -> {
+                        String etag = headers.getETag() != null ? headers.getETag()
+                                : "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+                        HttpHeaders cachedHeaders = new HttpHeaders();
+                        headers.forEach((name, values) -> {
+                            if (!UNCACHED_HEADERS.contains(name)) {
+                                cachedHeaders.put(name, new ArrayList<>(values));
+                            }
+                        });
+                        cachedHeaders.setETag(etag);
+                        CachedResponse cached = new CachedResponse(cachedHeaders, bytes, etag, System.nanoTime(), ttl);
+                        cache.put(key, cached);
+                        return cached.writeTo(getDelegate(), request);
+                    });
+        }
+    }
+
+    private record CachedResponse(HttpHeaders headers, byte[] body, String etag, long storedAt, Duration ttl) {
+
+        Mono<Void> writeTo(ServerHttpResponse response, ServerHttpRequest request) {
+            HttpHeaders responseHeaders = response.getHeaders();
+            headers.forEach((name, values) -> responseHeaders.put(name, new ArrayList<>(values)));
+            long ageSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - storedAt);
+            long maxAge = Math.max(0, ttl.toSeconds() - ageSeconds);
+            responseHeaders.setCacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAge)).cachePrivate());
+            responseHeaders.set(HttpHeaders.AGE, Long.toString(ageSeconds));
+            if (notModified(request, etag)) {
+                response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                responseHeaders.remove(HttpHeaders.CONTENT_TYPE);
+                responseHeaders.remove(HttpHeaders.CONTENT_LENGTH);
+                responseHeaders.remove(HttpHeaders.TRANSFER_ENCODING);
+                return response.setComplete();
+            }
+            response.setStatusCode(HttpStatus.OK);
+            responseHeaders.remove(HttpHeaders.TRANSFER_ENCODING);
+            responseHeaders.setContentLength(body.length);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.eazybytes.gatewayserver.filters;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * Measures every request from the moment the gateway receives it. The elapsed time
+ * up to the response commit is returned in the {@code X-Response-Time} header, and
+ * the time until the response body is written is recorded per route.
+ */
+@Component
+public class ResponseTimeFilter implements GlobalFilter, Ordered {
+
+    public static final String RESPONSE_TIME_HEADER = "X-Response-Time";
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReactiveResilience4JCircuitBreakerFactory circuitBreakerFactory;
+
+    public ResponseTimeFilter(MeterRegistry meterRegistry, ReactiveResilience4JCircuitBreakerFactory circuitBreakerFactory) {
+        this.meterRegistry = meterRegistry;
+        this.circuitBreakerFactory = circuitBreakerFactory;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        exchange.getResponse().beforeCommit(() -> {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            exchange.getResponse().getHeaders().set(RESPONSE_TIME_HEADER,
+                    String.format(Locale.ROOT, "%d.%03dms", micros / 1000, micros % 1000));
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .doFinally(signal -> Timer.builder("eazybank.gateway.requests")
+                        .description("Time from receiving a request until its response is written")
+                        .tags(tags(exchange, circuitBreakerFactory))
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * Route id, response status and the state of the route's circuit breaker, which by
+     * convention is named after the route, e.g. {@code accountsCircuitBreaker}.
+     */
+    static Tags tags(ServerWebExchange exchange, ReactiveResilience4JCircuitBreakerFactory circuitBreakerFactory) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "none";
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        String circuitBreakerState = route == null ? "none" : circuitBreakerFactory.getCircuitBreakerRegistry()
+                .find(routeId + "CircuitBreaker")
+                .map(CircuitBreaker::getState)
+                .map(Enum::name)
+                .orElse("none");
+        return Tags.of("route", routeId,
+                "status", status != null ? Integer.toString(status.value()) : "UNKNOWN",
+                "circuitBreaker", circuitBreakerState);
+    }
+}
@@ -0,0 +1,50 @@
+package com.eazybytes.gatewayserver.filters;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the backend call alone: it wraps {@link NettyRoutingFilter}, which completes
+ * once the backend's response status and headers have arrived, or {@link HedgingFilter}
+ * on routes that hedge, which completes once the whole response is written. Requests
+ * answered by the gateway itself (cache hits, fallbacks, rate limiting) are not recorded here.
+ */
+@Component
+public class UpstreamTimeFilter implements GlobalFilter, Ordered {
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReactiveResilience4JCircuitBreakerFactory circuitBreakerFactory;
+
+    public UpstreamTimeFilter(MeterRegistry meterRegistry, ReactiveResilience4JCircuitBreakerFactory circuitBreakerFactory) {
+        this.meterRegistry = meterRegistry;
+        this.circuitBreakerFactory = circuitBreakerFactory;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> Timer.builder("eazybank.gateway.upstream")
+                        .description("Time until the backend's response headers arrive")
+                        .tags(ResponseTimeFilter.tags(exchange, circuitBreakerFactory))
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyRoutingFilter.ORDER - 2;
+    }
+}
@@ -0,0 +1,123 @@
+package com.eazybytes.gatewayserver.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit of one route that adapts to the measured round trip time, after
+ * the gradient algorithm of Netflix's concurrency-limits library. The average RTT of
+ * each window of samples is compared with the RTT seen without load: while latency
+ * stays within {@link #TOLERANCE} of it the limit grows by about {@code sqrt(limit)}
+ * per window, and once queueing makes requests slower the limit shrinks in
+ * proportion. Errors and timeouts cut the limit by 10%.
+ * <p>
+ * The no-load RTT is the lowest window average seen. Every {@link #PROBE_WINDOWS}
+ * windows it is measured again after halving the limit, so that a backend that became
+ * slower or faster for good is picked up.
+ */
+public class GradientConcurrencyLimit {
+
+    private static final int WINDOW_SIZE = 20;
+    private static final double SMOOTHING = 0.2;
+    private static final double TOLERANCE = 1.5;
+    private static final int PROBE_WINDOWS = 500;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Object lock = new Object();
+
+    private volatile double limit;
+    private double noLoadRtt;
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInflight;
+    private int windowsSinceProbe;
+
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * @param share - Fraction of the limit this request may use; lower priority requests
+     *              get a smaller share so that they are shed first
+     * @return true if the request may proceed, in which case exactly one of the
+     * {@code on*} methods must be called when it completes
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long rttNanos) {
+        int inflightBefore = inflight.getAndDecrement();
+        synchronized (lock) {
+            windowRttSum += rttNanos;
+            windowCount++;
+            windowMaxInflight = Math.max(windowMaxInflight, inflightBefore);
+            if (windowCount < WINDOW_SIZE) {
+                return;
+            }
+            double shortRtt = (double) windowRttSum / windowCount;
+            if (++windowsSinceProbe >= PROBE_WINDOWS) {
+                windowsSinceProbe = 0;
+                noLoadRtt = 0;
+                setLimit(limit / 2);
+                resetWindow();
+                return;
+            }
+            noLoadRtt = noLoadRtt == 0 ? shortRtt : Math.min(noLoadRtt, shortRtt);
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * noLoadRtt / shortRtt));
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            if (newLimit > limit && windowMaxInflight < limit / 2) {
+                // the limit was not what held the route back, so there is nothing to learn
+                newLimit = limit;
+            }
+            setLimit(limit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+            resetWindow();
+        }
+    }
+
+    public void onDropped() {
+        inflight.decrementAndGet();
+        synchronized (lock) {
+            setLimit(limit * 0.9);
+            resetWindow();
+        }
+    }
+
+    /**
+     * Releases a request whose duration says nothing about the backend, e.g. one the
+     * client cancelled.
+     */
+    public void onIgnored() {
+        inflight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private void setLimit(double newLimit) {
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    private void resetWindow() {
+        windowRttSum = 0;
+        windowCount = 0;
+        windowMaxInflight = 0;
+    }
+}
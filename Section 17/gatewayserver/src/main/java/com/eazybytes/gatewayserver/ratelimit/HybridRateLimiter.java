@@ -0,0 +1,325 @@
+package com.eazybytes.gatewayserver.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Token bucket rate limiter that keeps Redis as the shared source of truth but does
+ * not call it per request. Each instance leases tokens from the Redis bucket in
+ * batches and hands them out from a lock-free local bucket; the next lease is
+ * fetched in the background when the local bucket runs low. After Redis refuses a
+ * lease, requests for that key are refused locally until the next token is due.
+ * <p>
+ * Leased tokens expire after {@link Config#getLeaseTtl()}, so an idle instance does
+ * not hold on to capacity the other instances could use.
+ * <p>
+ * With a burst capacity of 1, as on the cards route, every lease is a single token and
+ * each allowed request still costs a Redis call. The saving is then on refused
+ * requests: after a refusal, a client that keeps retrying is answered locally until
+ * its next token is due, instead of with a Redis call per attempt.
+ * <p>
+ * Responses carry the same X-RateLimit headers as {@link RedisRateLimiter}.
+ * <p>
+ * Every admitted request spends a token taken from Redis, so across N instances a key
+ * is still held to {@code burstCapacity + replenishRate * t} requests in any interval
+ * {@code t}. What leasing changes is where the tokens sit: up to {@code N * leaseSize}
+ * of them can be held locally, so an instance may admit up to {@code leaseSize}
+ * requests after Redis already reports the bucket empty, and leases that expire
+ * unused are lost to the other instances. Failing open while Redis is unreachable is
+ * not bounded.
+ */
+public class HybridRateLimiter extends AbstractRateLimiter<HybridRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "hybrid-rate-limiter";
+
+    public static final String REMAINING_HEADER = RedisRateLimiter.REMAINING_HEADER;
+
+    private static final String REQUESTED_TOKENS = "1";
+
+    private static final Logger logger = LoggerFactory.getLogger(HybridRateLimiter.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisScript<List<Long>> script;
+    private final Config defaultConfig;
+    private final Cache<String, LocalBucket> buckets;
+
+    private final Counter allowed;
+    private final Counter denied;
+    private final Counter allowedFailOpen;
+    private final Counter deniedFailClosed;
+    private final Counter redisCalls;
+
+    public HybridRateLimiter(ReactiveStringRedisTemplate redisTemplate, RedisScript<List<Long>> script,
+                             ConfigurationService configurationService, MeterRegistry meterRegistry,
+                             Config defaultConfig) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.redisTemplate = redisTemplate;
+        this.script = script;
+        this.defaultConfig = defaultConfig;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.allowed = decisions(meterRegistry, "allowed");
+        this.denied = decisions(meterRegistry, "denied");
+        this.allowedFailOpen = decisions(meterRegistry, "fail-open");
+        this.deniedFailClosed = decisions(meterRegistry, "fail-closed");
+        this.redisCalls = Counter.builder("gateway.ratelimiter.redis.calls")
+                .description("Token leases requested from Redis")
+                .register(meterRegistry);
+    }
+
+    private static Counter decisions(MeterRegistry meterRegistry, String decision) {
+        return Counter.builder("gateway.ratelimiter.decisions")
+                .description("Rate limiter decisions by outcome")
+                .tag("decision", decision)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        LocalBucket bucket = buckets.get(routeId + "." + id, LocalBucket::new);
+
+        long remaining = bucket.tryAcquire();
+        if (remaining >= 0) {
+            if (remaining < config.leaseSize() / 2) {
+                bucket.lease(config).subscribe(granted -> { },
+                        ex -> logger.debug("Background token lease for {} failed: {}", bucket.key, ex.toString()));
+            }
+            return Mono.just(allowed(config, remaining));
+        }
+        if (bucket.isDenied()) {
+            return Mono.just(denied(config));
+        }
+        return bucket.lease(config)
+                .map(granted -> {
+                    long afterLease = bucket.tryAcquire();
+                    return afterLease >= 0 ? allowed(config, afterLease) : denied(config);
+                })
+                .onErrorResume(ex -> {
+                    logger.warn("Rate limiter could not reach Redis for {}, failing {}: {}", bucket.key,
+                            config.isFailOpen() ? "open" : "closed", ex.toString());
+                    if (config.isFailOpen()) {
+                        allowedFailOpen.increment();
+                        // -1 remaining, as RedisRateLimiter reports when Redis fails
+                        return Mono.just(new Response(true, headers(config, -1)));
+                    }
+                    deniedFailClosed.increment();
+                    return Mono.just(denied(config));
+                });
+    }
+
+    private Response allowed(Config config, long remaining) {
+        allowed.increment();
+        return new Response(true, headers(config, remaining));
+    }
+
+    private Response denied(Config config) {
+        denied.increment();
+        return new Response(false, headers(config, 0));
+    }
+
+    private static Map<String, String> headers(Config config, long remaining) {
+        return Map.of(REMAINING_HEADER, Long.toString(remaining),
+                RedisRateLimiter.REPLENISH_RATE_HEADER, Integer.toString(config.getReplenishRate()),
+                RedisRateLimiter.BURST_CAPACITY_HEADER, Integer.toString(config.getBurstCapacity()),
+                RedisRateLimiter.REQUESTED_TOKENS_HEADER, REQUESTED_TOKENS);
+    }
+
+    private record Lease(long tokens, long expiresAt) {
+    }
+
+    private class LocalBucket {
+
+        private final String key;
+        private final List<String> redisKeys;
+        private final AtomicReference<Lease> lease = new AtomicReference<>(new Lease(0, 0));
+        private final AtomicReference<Mono<Long>> inflight = new AtomicReference<>();
+        private volatile long deniedUntil;
+
+        LocalBucket(String key) {
+            this.key = key;
+            // hash tag keeps both keys in one slot on Redis Cluster, as RedisRateLimiter does
+            String prefix = "hybrid_rate_limiter.{" + key + "}.";
+            this.redisKeys = List.of(prefix + "tokens", prefix + "timestamp");
+        }
+
+        /**
+         * @return tokens left after taking one, or -1 if the local bucket is empty
+         */
+        long tryAcquire() {
+            while (true) {
+                Lease current = lease.get();
+                if (current.tokens() <= 0 || System.nanoTime() - current.expiresAt() > 0) {
+                    return -1;
+                }
+                if (lease.compareAndSet(current, new Lease(current.tokens() - 1, current.expiresAt()))) {
+                    return current.tokens() - 1;
+                }
+            }
+        }
+
+        boolean isDenied() {
+            return System.nanoTime() - deniedUntil < 0;
+        }
+
+        /**
+         * Requests a batch of tokens from Redis. Concurrent callers share the request
+         * that is already in flight instead of issuing their own.
+         * @return number of tokens granted
+         */
+        Mono<Long> lease(Config config) {
+            while (true) {
+                Mono<Long> existing = inflight.get();
+                if (existing != null) {
+                    return existing;
+                }
+                AtomicReference<Mono<Long>> self = new AtomicReference<>();
+                Mono<Long> request = request(config, config.leaseSize())
+                        .flatMap(result -> result.get(0) == 1L || result.get(1) < 1
+                                ? Mono.just(result)
+                                : request(config, result.get(1).intValue()))
+                        .map(result -> result.get(0) == 1L ? grant(config, result) : deny(config))
+                        .doFinally(signal -> inflight.compareAndSet(self.get(), null))
+                        .cache();
+                self.set(request);
+                if (inflight.compareAndSet(null, request)) {
+                    return request;
+                }
+            }
+        }
+
+        private Mono<List<Long>> request(Config config, int tokens) {
+            redisCalls.increment();
+            List<String> args = List.of(Integer.toString(config.getReplenishRate()),
+                    Integer.toString(config.getBurstCapacity()), "", Integer.toString(tokens));
+            return redisTemplate.execute(script, redisKeys, args)
+                    .next()
+                    .map(result -> List.of(result.get(0), result.get(0) == 1L ? tokens : result.get(1)))
+                    .timeout(config.getRedisTimeout());
+        }
+
+        private long grant(Config config, List<Long> result) {
+            long granted = result.get(1);
+            long expiresAt = System.nanoTime() + config.getLeaseTtl().toNanos();
+            while (true) {
+                Lease current = lease.get();
+                long kept = System.nanoTime() - current.expiresAt() > 0 ? 0 : current.tokens();
+                if (lease.compareAndSet(current, new Lease(kept + granted, expiresAt))) {
+                    return granted;
+                }
+            }
+        }
+
+        private long deny(Config config) {
+            deniedUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(1) / config.getReplenishRate();
+            return 0;
+        }
+    }
+
+    public static class Config {
+
+        private int replenishRate = 1;
+
+        private int burstCapacity = 1;
+
+        private int leaseSize;
+
+        private Duration leaseTtl = Duration.ofSeconds(1);
+
+        private Duration redisTimeout = Duration.ofMillis(100);
+
+        private boolean failOpen = true;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public int getLeaseSize() {
+            return leaseSize;
+        }
+
+        /**
+         * Tokens taken from Redis per lease. Capped at the burst capacity, since Redis
+         * never holds more tokens than that. When not set, a lease is one second of
+         * replenishment, up to half the burst capacity so other instances still get a
+         * share.
+         */
+        public Config setLeaseSize(int leaseSize) {
+            this.leaseSize = leaseSize;
+            return this;
+        }
+
+        int leaseSize() {
+            int size = leaseSize > 0 ? leaseSize : Math.min(replenishRate, burstCapacity / 2);
+            return Math.max(1, Math.min(size, burstCapacity));
+        }
+
+        public Duration getLeaseTtl() {
+            return leaseTtl;
+        }
+
+        public Config setLeaseTtl(Duration leaseTtl) {
+            this.leaseTtl = leaseTtl;
+            return this;
+        }
+
+        public Duration getRedisTimeout() {
+            return redisTimeout;
+        }
+
+        public Config setRedisTimeout(Duration redisTimeout) {
+            this.redisTimeout = redisTimeout;
+            return this;
+        }
+
+        public boolean isFailOpen() {
+            return failOpen;
+        }
+
+        /**
+         * Allow requests when Redis cannot be reached in time, instead of rejecting them.
+         */
+        public Config setFailOpen(boolean failOpen) {
+            this.failOpen = failOpen;
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "Config{replenishRate=" + replenishRate + ", burstCapacity=" + burstCapacity + ", leaseSize="
+                    + leaseSize() + ", leaseTtl=" + leaseTtl + ", redisTimeout=" + redisTimeout + ", failOpen="
+                    + failOpen + '}';
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.eazybytes.gatewayserver.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class CustomerDetailsFilterTests {
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private DisposableServer server;
+
+    private CustomerDetailsFilter filter;
+
+    @BeforeEach
+    void startServer() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/accounts/api/fetch", (request, response) -> response.sendString(
+                                Mono.delay(Duration.ofSeconds(1)).thenReturn("{\"mobileNumber\":\"4354437687\"}")))
+                        .get("/{service}/api/fetch", (request, response) -> response.status(404).send()))
+                .bindNow();
+        String baseUri = "http://localhost:" + server.port();
+        HttpClient httpClient = HttpClient.create().doOnRequest((request, connection) -> requests.incrementAndGet());
+        filter = new CustomerDetailsFilter(WebClient.builder(), httpClient, new ObjectMapper(),
+                new SimpleMeterRegistry(), baseUri + "/accounts", baseUri + "/loans", baseUri + "/cards",
+                Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.disposeNow();
+    }
+
+    @Test
+    void accountsTimeoutIsGatewayTimeout() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/eazybank/customer-details?mobileNumber=4354437687"));
+
+        ResponseStatusException ex = catchThrowableOfType(ResponseStatusException.class,
+                () -> filter.filter(exchange, e -> Mono.empty()).block(Duration.ofSeconds(5)));
+
+        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        // the legs go through the client the filter was given, not one of its own
+        assertThat(requests.get()).isPositive();
+    }
+}
@@ -0,0 +1,121 @@
+package com.eazybytes.gatewayserver.filters;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.SpringCloudCircuitBreakerFilterFactory;
+import org.springframework.cloud.gateway.filter.factory.SpringCloudCircuitBreakerResilience4JFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.DispatcherHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class ResponseCacheFilterTests {
+
+    private static final String PATH = "/eazybank/accounts/api/fetch";
+
+    private static final String FALLBACK = "An error occurred. Please try after some time or contact support team!!!";
+
+    private final Route route = Route.async().id("accounts").uri("http://accounts:8080").predicate(exchange -> true).build();
+
+    private final AtomicBoolean accountsUp = new AtomicBoolean(false);
+
+    private final AtomicInteger accountsCalls = new AtomicInteger();
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowSize(1)
+            .minimumNumberOfCalls(1)
+            .build());
+
+    private final GatewayFilter responseCache = new ResponseCacheFilter(exchange -> Mono.just("anonymous"),
+            new SimpleMeterRegistry(), DataSize.ofMegabytes(1)).forPaths(Map.of(PATH, Duration.ofSeconds(10)));
+
+    private final GatewayFilter circuitBreaker = circuitBreaker();
+
+    @Test
+    void fallbackResponseIsNotCached() {
+        MockServerWebExchange failed = get();
+        assertThat(failed.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(failed.getResponse().getBodyAsString().block()).isEqualTo(FALLBACK);
+        assertThat(circuitBreakerRegistry.circuitBreaker("accountsCircuitBreaker").getState())
+                .isEqualTo(io.github.resilience4j.circuitbreaker.CircuitBreaker.State.OPEN);
+
+        accountsUp.set(true);
+        circuitBreakerRegistry.circuitBreaker("accountsCircuitBreaker").transitionToClosedState();
+
+        MockServerWebExchange recovered = get();
+        assertThat(recovered.getResponse().getBodyAsString().block()).isEqualTo("{\"mobileNumber\":\"4354437687\"}");
+        assertThat(accountsCalls).hasValue(2);
+
+        MockServerWebExchange cached = get();
+        assertThat(cached.getResponse().getBodyAsString().block()).isEqualTo("{\"mobileNumber\":\"4354437687\"}");
+        assertThat(accountsCalls).hasValue(2);
+    }
+
+    private MockServerWebExchange get() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH + "?mobileNumber=4354437687"));
+        // what RoutePredicateHandlerMapping and RouteToRequestUrlFilter leave on the exchange
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, route);
+        exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR,
+                URI.create("http://accounts:8080/api/fetch?mobileNumber=4354437687"));
+        GatewayFilterChain accounts = this::accounts;
+        responseCache.filter(exchange, cacheExchange -> circuitBreaker.filter(cacheExchange, accounts))
+                .block(Duration.ofSeconds(5));
+        return exchange;
+    }
+
+    private Mono<Void> accounts(ServerWebExchange exchange) {
+        accountsCalls.incrementAndGet();
+        if (!accountsUp.get()) {
+            return Mono.error(new ConnectException("Connection refused: accounts/10.0.0.1:8080"));
+        }
+        return write(exchange, "{\"mobileNumber\":\"4354437687\"}");
+    }
+
+    private GatewayFilter circuitBreaker() {
+        ReactiveResilience4JCircuitBreakerFactory circuitBreakerFactory =
+                new ReactiveResilience4JCircuitBreakerFactory(circuitBreakerRegistry, TimeLimiterRegistry.ofDefaults());
+        // FallBackController behind forward:/contactSupport
+        DispatcherHandler dispatcherHandler = mock(DispatcherHandler.class);
+        when(dispatcherHandler.handle(any())).thenAnswer(invocation -> write(invocation.getArgument(0), FALLBACK));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("dispatcherHandler", dispatcherHandler));
+        return new SpringCloudCircuitBreakerResilience4JFilterFactory(circuitBreakerFactory,
+                beanFactory.getBeanProvider(DispatcherHandler.class))
+                .apply(new SpringCloudCircuitBreakerFilterFactory.Config()
+                        .setName("accountsCircuitBreaker")
+                        .setFallbackUri("forward:/contactSupport"));
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange, String body) {
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                .wrap(body.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,22 @@
+package com.eazybytes.loans.config;
+
+import com.eazybytes.loans.constants.LoansConstants;
+import com.eazybytes.loans.generator.NumberGenerator;
+import com.eazybytes.loans.generator.SequenceBlockNumberGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class NumberGeneratorConfig {
+
+    @Bean
+    public NumberGenerator loanNumberGenerator(@Value("${number-generator.block-size:100}") int blockSize,
+                                               JdbcTemplate jdbcTemplate,
+                                               PlatformTransactionManager transactionManager) {
+        return new SequenceBlockNumberGenerator(LoansConstants.LOAN_NUMBER_SEQUENCE, blockSize,
+                LoansConstants.MAX_LOAN_NUMBER, jdbcTemplate, transactionManager);
+    }
+}
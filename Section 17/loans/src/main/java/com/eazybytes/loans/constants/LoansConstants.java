@@ -7,6 +7,8 @@ public final class LoansConstants {
     }
 
     public static final String  HOME_LOAN = "Home Loan";
+    public static final String  LOAN_NUMBER_SEQUENCE = "loan_number";
+    public static final long  MAX_LOAN_NUMBER = 999_999_999_999L;
     public static final int  NEW_LOAN_LIMIT = 1_00_000;
     public static final String  STATUS_201 = "201";
     public static final String  MESSAGE_201 = "Loan created successfully";
@@ -8,7 +8,9 @@ import lombok.*;
 public class Loans extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "loan_id_generator")
+	@TableGenerator(name = "loan_id_generator", table = "number_sequence", pkColumnName = "sequence_name",
+			valueColumnName = "next_val", pkColumnValue = "loan_id", allocationSize = 50)
 	private Long loanId;
 
 	private String mobileNumber;
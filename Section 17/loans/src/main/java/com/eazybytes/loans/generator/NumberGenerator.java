@@ -0,0 +1,12 @@
+package com.eazybytes.loans.generator;
+
+/**
+ * Source of unique business numbers (account, card or loan numbers).
+ */
+public interface NumberGenerator {
+
+    /**
+     * @return a number that has not been handed out before by any instance
+     */
+    long nextNumber();
+}
@@ -0,0 +1,91 @@
+package com.eazybytes.loans.generator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hi/lo style generator backed by the number_sequence table. Each instance reserves a
+ * block of numbers in its own short transaction and then hands them out with a single
+ * atomic increment, so callers only touch the database once per block and never
+ * block each other while a block lasts.
+ */
+public class SequenceBlockNumberGenerator implements NumberGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceBlockNumberGenerator.class);
+
+    private final String sequenceName;
+    private final int blockSize;
+    private final long maxValue;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    private volatile Block block = new Block(0, 0);
+
+    public SequenceBlockNumberGenerator(String sequenceName, int blockSize, long maxValue,
+                                        JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.sequenceName = sequenceName;
+        this.blockSize = blockSize;
+        this.maxValue = maxValue;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public long nextNumber() {
+        while (true) {
+            Block current = block;
+            long number = current.next.getAndIncrement();
+            if (number < current.end) {
+                return number;
+            }
+            refill(current);
+        }
+    }
+
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            if (block == exhausted) {
+                block = reserveBlock();
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private Block reserveBlock() {
+        Long start = transactionTemplate.execute(status -> {
+            Long nextValue = jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM number_sequence WHERE sequence_name = ? FOR UPDATE", Long.class, sequenceName);
+            jdbcTemplate.update("UPDATE number_sequence SET next_val = ? WHERE sequence_name = ?",
+                    nextValue + blockSize, sequenceName);
+            return nextValue;
+        });
+        long end = Math.min(start + blockSize, maxValue + 1);
+        if (start >= end) {
+            throw new IllegalStateException("Number sequence " + sequenceName + " is exhausted");
+        }
+        log.debug("Reserved {} numbers [{}, {}) from sequence {}", end - start, start, end, sequenceName);
+        return new Block(start, end);
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
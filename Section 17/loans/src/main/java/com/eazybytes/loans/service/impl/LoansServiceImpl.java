@@ -5,6 +5,7 @@ import com.eazybytes.loans.dto.LoansDto;
 import com.eazybytes.loans.entity.Loans;
 import com.eazybytes.loans.exception.LoanAlreadyExistsException;
 import com.eazybytes.loans.exception.ResourceNotFoundException;
+import com.eazybytes.loans.generator.NumberGenerator;
 import com.eazybytes.loans.mapper.LoansMapper;
 import com.eazybytes.loans.repository.LoansRepository;
 import com.eazybytes.loans.service.ILoansService;
@@ -12,13 +13,13 @@ import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
-import java.util.Random;
 
 @Service
 @AllArgsConstructor
 public class LoansServiceImpl implements ILoansService {
 
     private LoansRepository loansRepository;
+    private NumberGenerator loanNumberGenerator;
 
     /**
      * @param mobileNumber - Mobile Number of the Customer
@@ -38,8 +39,7 @@ public class LoansServiceImpl implements ILoansService {
      */
     private Loans createNewLoan(String mobileNumber) {
         Loans newLoan = new Loans();
-        long randomLoanNumber = 100000000000L + new Random().nextInt(900000000);
-        newLoan.setLoanNumber(Long.toString(randomLoanNumber));
+        newLoan.setLoanNumber(Long.toString(loanNumberGenerator.nextNumber()));
         newLoan.setMobileNumber(mobileNumber);
         newLoan.setLoanType(LoansConstants.HOME_LOAN);
         newLoan.setTotalLoan(LoansConstants.NEW_LOAN_LIMIT);
@@ -0,0 +1,27 @@
+CREATE TABLE IF NOT EXISTS `loans` (
+  `loan_id` int NOT NULL AUTO_INCREMENT,
+  `mobile_number` varchar(15) NOT NULL,
+  `loan_number` varchar(100) NOT NULL,
+  `loan_type` varchar(100) NOT NULL,
+  `total_loan` int NOT NULL,
+  `amount_paid` int NOT NULL,
+  `outstanding_amount` int NOT NULL,
+  `created_at` date NOT NULL,
+  `created_by` varchar(20) NOT NULL,
+  `updated_at` date DEFAULT NULL,
+  `updated_by` varchar(20) DEFAULT NULL,
+  PRIMARY KEY (`loan_id`)
+);
+
+CREATE TABLE IF NOT EXISTS `number_sequence` (
+  `sequence_name` varchar(50) NOT NULL,
+  `next_val` bigint NOT NULL,
+  PRIMARY KEY (`sequence_name`)
+);
+
+-- Starts above the range handed out by the old random generator (100000000000 - 100899999999)
+INSERT IGNORE INTO `number_sequence` (`sequence_name`, `next_val`) VALUES ('loan_number', 101000000000);
+
+-- Hibernate hands out loan_id values in blocks from this row (pooled-lo), starting after existing rows
+INSERT IGNORE INTO `number_sequence` (`sequence_name`, `next_val`)
+    SELECT 'loan_id', COALESCE(MAX(`loan_id`), 0) + 1 FROM `loans`;
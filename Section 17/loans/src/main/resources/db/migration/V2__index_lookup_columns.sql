@@ -0,0 +1,8 @@
+-- The entity maps loan_id as Long
+ALTER TABLE `loans` MODIFY `loan_id` bigint NOT NULL AUTO_INCREMENT;
+
+-- findByMobileNumber; a mobile number has at most one loan
+CREATE UNIQUE INDEX `ux_loans_mobile_number` ON `loans` (`mobile_number`);
+
+-- findByLoanNumber
+CREATE UNIQUE INDEX `ux_loans_loan_number` ON `loans` (`loan_number`);
@@ -0,0 +1,30 @@
+package com.eazybytes.message.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param concurrency - Messages of one batch being sent at the same time
+ * @param timeout - Time a single email or sms send may take before it is retried
+ * @param retries - Retries per channel before the message is given up and not acknowledged
+ * @param stubLatency - Simulated send time of the stub senders used when no real sender is configured
+ */
+@ConfigurationProperties(prefix = "message.dispatch")
+public record DispatchProperties(int concurrency, Duration timeout, int retries, Duration stubLatency) {
+
+    public DispatchProperties {
+        if (concurrency <= 0) {
+            concurrency = 64;
+        }
+        if (timeout == null) {
+            timeout = Duration.ofSeconds(5);
+        }
+        if (retries < 0) {
+            retries = 0;
+        }
+        if (stubLatency == null) {
+            stubLatency = Duration.ofMillis(20);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.eazybytes.message.config;
+
+import com.eazybytes.message.sender.EmailSender;
+import com.eazybytes.message.sender.SmsSender;
+import com.eazybytes.message.sender.StubSender;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Stub senders, used unless {@code message.sender} names another implementation.
+ * Configuration that provides real senders sets the property, rather than relying on
+ * bean registration order.
+ */
+@Configuration
+public class SenderConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "message.sender", havingValue = "stub", matchIfMissing = true)
+    public EmailSender emailSender(DispatchProperties properties) {
+        return new StubSender("email", properties.stubLatency())::send;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "message.sender", havingValue = "stub", matchIfMissing = true)
+    public SmsSender smsSender(DispatchProperties properties) {
+        return new StubSender("sms", properties.stubLatency())::send;
+    }
+}
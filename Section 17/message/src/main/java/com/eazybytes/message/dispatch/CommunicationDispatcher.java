@@ -0,0 +1,85 @@
+package com.eazybytes.message.dispatch;
+
+import com.eazybytes.message.config.DispatchProperties;
+import com.eazybytes.message.dto.AccountsMessageDto;
+import com.eazybytes.message.sender.EmailSender;
+import com.eazybytes.message.sender.SmsSender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Sends the email and then the sms for every message of a batch, with at most
+ * {@link DispatchProperties#concurrency()} messages in flight.
+ */
+@Component
+public class CommunicationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(CommunicationDispatcher.class);
+
+    private final EmailSender emailSender;
+    private final SmsSender smsSender;
+    private final DispatchProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public CommunicationDispatcher(EmailSender emailSender, SmsSender smsSender, DispatchProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.emailSender = emailSender;
+        this.smsSender = smsSender;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Blocks until every message of the batch has been sent or given up, which keeps
+     * the consumer from polling the next batch while this one is still in flight.
+     * @param messages - Batch of communication requests
+     * @return account numbers whose email and sms were both sent
+     */
+    public List<Long> dispatch(List<AccountsMessageDto> messages) {
+        return Flux.fromIterable(messages)
+                .flatMap(this::dispatch, properties.concurrency())
+                .collectList()
+                .block();
+    }
+
+    private Mono<Long> dispatch(AccountsMessageDto accountsMessageDto) {
+        return send("email", emailSender::send, accountsMessageDto)
+                .then(send("sms", smsSender::send, accountsMessageDto))
+                .thenReturn(accountsMessageDto.accountNumber())
+                .onErrorResume(ex -> {
+                    log.error("Giving up communication for the account number {}: {}",
+                            accountsMessageDto.accountNumber(), ex.toString());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> send(String channel, Function<AccountsMessageDto, Mono<Void>> sender,
+                            AccountsMessageDto accountsMessageDto) {
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return sender.apply(accountsMessageDto)
+                            .timeout(properties.timeout())
+                            .doOnSuccess(done -> record(channel, "success", start))
+                            .doOnError(ex -> record(channel, "failure", start));
+                })
+                .retry(properties.retries());
+    }
+
+    private void record(String channel, String outcome, long start) {
+        Timer.builder("message.dispatch")
+                .description("Time to send one email or sms")
+                .tag("channel", channel)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
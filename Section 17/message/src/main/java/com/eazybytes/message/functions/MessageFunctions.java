@@ -1,31 +1,33 @@
 package com.eazybytes.message.functions;
 
+import com.eazybytes.message.dispatch.CommunicationDispatcher;
 import com.eazybytes.message.dto.AccountsMessageDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.function.Function;
+import java.util.List;
+import java.util.function.Consumer;
 
 @Configuration
 public class MessageFunctions {
     private static final Logger log = LoggerFactory.getLogger(MessageFunctions.class);
 
+    /**
+     * Receives a poll worth of communication requests, sends their email and sms and
+     * acknowledges the accounts that were reached. The acks are handed to the producer
+     * back to back, which groups them into batches (see communicationSent-out-0).
+     */
     @Bean
-    public Function<AccountsMessageDto, AccountsMessageDto> email(){
-        return accountsMessageDto -> {
-            log.info("Sending email with the details:" + accountsMessageDto.toString());
-            return accountsMessageDto;
-        };
-    }
-
-
-    @Bean
-    public Function<AccountsMessageDto, Long> sms(){
-        return accountsMessageDto -> {
-            log.info("Sending sms with the details:" + accountsMessageDto.toString());
-            return accountsMessageDto.accountNumber();
+    public Consumer<List<AccountsMessageDto>> dispatch(CommunicationDispatcher dispatcher, StreamBridge streamBridge){
+        return messages -> {
+            List<Long> sent = dispatcher.dispatch(messages);
+            for (Long accountNumber : sent) {
+                streamBridge.send("communicationSent-out-0", accountNumber);
+            }
+            log.info("Sent communication for {} of {} accounts", sent.size(), messages.size());
         };
     }
 }
@@ -0,0 +1,13 @@
+package com.eazybytes.message.sender;
+
+import com.eazybytes.message.dto.AccountsMessageDto;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sends the account creation email. Implementations must not block the calling
+ * thread; define a bean of this type to replace the stub sender.
+ */
+public interface EmailSender {
+
+    Mono<Void> send(AccountsMessageDto accountsMessageDto);
+}
@@ -0,0 +1,32 @@
+package com.eazybytes.message.sender;
+
+import com.eazybytes.message.dto.AccountsMessageDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Logs the message after a fixed delay instead of contacting a provider, so the
+ * pipeline can be run and load tested without email or sms credentials.
+ */
+public class StubSender {
+
+    private static final Logger log = LoggerFactory.getLogger(StubSender.class);
+
+    private final String channel;
+
+    private final Duration latency;
+
+    public StubSender(String channel, Duration latency) {
+        this.channel = channel;
+        this.latency = latency;
+    }
+
+    public Mono<Void> send(AccountsMessageDto accountsMessageDto) {
+        return Mono.delay(latency)
+                .doOnNext(tick -> log.debug("Sending {} with the details: {}", channel, accountsMessageDto))
+                .then();
+    }
+}